@@ -44,6 +44,16 @@ const Admin: React.FC = () => {
         }
     }, [isLoggedIn, activeTab]);
 
+    // Otra pestaña u otro administrador guardó cambios: recargar si afectan a la pestaña activa
+    useEffect(() => {
+        if (!isLoggedIn) return;
+        return apiService.subscribeToChanges(({ entity }) => {
+            if (activeTab === 'projects' ? entity === 'PROJECTS' : entity !== 'PROJECTS') {
+                loadData();
+            }
+        });
+    }, [isLoggedIn, activeTab]);
+
     /** Carga información desde el backend según la pestaña activa */
     const loadData = async () => {
         setLoading(true);
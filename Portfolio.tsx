@@ -46,94 +46,103 @@ function Portfolio() {
 
   // --- EFECTOS: Sincronización con Backend ---
   useEffect(() => {
-    /** 
-     * fetchData: Recupera toda la información del servidor Quarkus
-     * Proyectos, Perfil y Herramientas (Skills).
+    /**
+     * applyPortfolio: Vuelca en el estado el perfil, los proyectos y las
+     * herramientas (Skills) recibidos de /portfolio.
      */
-    const fetchData = async () => {
-      try {
-        const [backendProjects, backendProfile, backendTools] = await Promise.all([
-          apiService.getProjects(),
-          apiService.getProfile(),
-          apiService.getLearningTools()
-        ]);
-
-        // Sincronizar sección Principal (Hero) y Sobre Mí
-        if (backendProfile) {
-          setHero({
-            name: backendProfile.name,
-            role: backendProfile.role,
-            manifesto: backendProfile.manifesto,
-            location: backendProfile.location,
-            status: backendProfile.status
-          });
-          setAbout({
-            title: backendProfile.aboutTitle,
-            description: backendProfile.aboutDescription,
-            englishLevel: backendProfile.englishLevel,
-            profileImage: backendProfile.profileImage,
-            currentlyLearning: backendProfile.currentlyLearning
-          });
-        }
+    const applyPortfolio = ({
+      projects: backendProjects,
+      profile: backendProfile,
+      learningTools: backendTools
+    }: any) => {
+      // Sincronizar sección Principal (Hero) y Sobre Mí
+      if (backendProfile) {
+        setHero({
+          name: backendProfile.name,
+          role: backendProfile.role,
+          manifesto: backendProfile.manifesto,
+          location: backendProfile.location,
+          status: backendProfile.status
+        });
+        setAbout({
+          title: backendProfile.aboutTitle,
+          description: backendProfile.aboutDescription,
+          englishLevel: backendProfile.englishLevel,
+          profileImage: backendProfile.profileImage,
+          currentlyLearning: backendProfile.currentlyLearning
+        });
+      }
 
-        // Combinar proyectos estáticos con los guardados en Base de Datos
-        setProjects(prev => {
-          const combined = [...PROJECTS];
-          backendProjects.forEach(bp => {
-            if (!combined.some(p => p.title === bp.title)) {
-              combined.push(bp);
+      // Combinar proyectos estáticos con los guardados en Base de Datos
+      setProjects(prev => {
+        const combined = [...PROJECTS];
+        backendProjects.forEach(bp => {
+          if (!combined.some(p => p.title === bp.title)) {
+            combined.push(bp);
+          }
+        });
+        return combined;
+      });
+
+      // Sincronizar Tech Stack dinámicamente
+      if (backendTools && backendTools.length > 0) {
+        // Filtrar herramientas que ya no están en fase de aprendizaje puro
+        const stackTools = backendTools.filter((t: any) => t.status !== 'LEARNING');
+
+        // Se parte siempre de TECH_STACK para que una segunda carga (exportación
+        // desactualizada) sustituya a la primera en lugar de acumularse.
+        setDynamicStack(() => {
+          const newStack = TECH_STACK.map(category => ({ ...category }));
+          stackTools.forEach((tool: any) => {
+            // Buscar categoría por coincidencia de nombre
+            const categoryIdx = newStack.findIndex(c =>
+              c.title.toUpperCase().includes(tool.category?.toUpperCase() || "")
+            );
+            const targetIdx = categoryIdx !== -1 ? categoryIdx : 3; // Fallback a Herramientas Generales
+
+            // Formatear etiqueta visual según el nivel de dominio registrado
+            let levelSuffix = "";
+            if (tool.status === 'BASIC') levelSuffix = " (Básico)";
+            else if (tool.status === 'INTERMEDIATE') levelSuffix = " (Intermedio)";
+            else if (tool.status === 'MASTERED') levelSuffix = " (Dominado)";
+
+            const skillWithLevel = `${tool.name}${levelSuffix}`;
+
+            if (!newStack[targetIdx].skills.includes(skillWithLevel)) {
+              newStack[targetIdx].skills = [...newStack[targetIdx].skills, skillWithLevel];
             }
           });
-          return combined;
+          return newStack;
         });
 
-        // Sincronizar Tech Stack dinámicamente
-        if (backendTools && backendTools.length > 0) {
-          // Filtrar herramientas que ya no están en fase de aprendizaje puro
-          const stackTools = backendTools.filter((t: any) => t.status !== 'LEARNING');
-
-          setDynamicStack(prev => {
-            const newStack = [...prev];
-            stackTools.forEach((tool: any) => {
-              // Buscar categoría por coincidencia de nombre
-              const categoryIdx = newStack.findIndex(c =>
-                c.title.toUpperCase().includes(tool.category?.toUpperCase() || "")
-              );
-              const targetIdx = categoryIdx !== -1 ? categoryIdx : 3; // Fallback a Herramientas Generales
-
-              // Formatear etiqueta visual según el nivel de dominio registrado
-              let levelSuffix = "";
-              if (tool.status === 'BASIC') levelSuffix = " (Básico)";
-              else if (tool.status === 'INTERMEDIATE') levelSuffix = " (Intermedio)";
-              else if (tool.status === 'MASTERED') levelSuffix = " (Dominado)";
-
-              const skillWithLevel = `${tool.name}${levelSuffix}`;
-
-              if (!newStack[targetIdx].skills.includes(skillWithLevel)) {
-                newStack[targetIdx].skills = [...newStack[targetIdx].skills, skillWithLevel];
-              }
-            });
-            return newStack;
-          });
-
-          // Sincronizar sección "Aprendiendo Actualmente" con herramientas en estado LEARNING
-          const learningTools = backendTools.filter((t: any) => t.status === 'LEARNING');
-          if (learningTools.length > 0) {
-            const learningNames = learningTools.map((t: any) => t.name).join(' ・ ');
-            setAbout(prev => ({ ...prev, currentlyLearning: learningNames }));
-            setHero(prev => ({ ...prev, status: `ACTUALMENTE: APRENDIENDO ${learningNames.toUpperCase()}` }));
-          }
+        // Sincronizar sección "Aprendiendo Actualmente" con herramientas en estado LEARNING
+        const learningTools = backendTools.filter((t: any) => t.status === 'LEARNING');
+        if (learningTools.length > 0) {
+          const learningNames = learningTools.map((t: any) => t.name).join(' ・ ');
+          setAbout(prev => ({ ...prev, currentlyLearning: learningNames }));
+          setHero(prev => ({ ...prev, status: `ACTUALMENTE: APRENDIENDO ${learningNames.toUpperCase()}` }));
         }
+      }
+    };
 
+    /** 
+     * fetchData: Recupera toda la información del servidor Quarkus
+     * Proyectos, Perfil y Herramientas (Skills) en una sola petición (/portfolio).
+     * Si se pintó desde una exportación desactualizada, applyPortfolio vuelve a
+     * ejecutarse con el contenido de la API.
+     */
+    const fetchData = async () => {
+      try {
+        applyPortfolio(await apiService.getPortfolio(applyPortfolio));
       } catch (error) {
         console.error("LOG: Error sincronizando con el servidor. Usando datos locales.", error);
       } finally {
         setLoading(false);
       }
     };
+    // Sin suscripción a /events: una conexión abierta por visitante impediría
+    // escalar a cero y servir desde el CDN. Los cambios se ven al recargar.
     fetchData();
-
-    return () => { };
   }, []);
 
   /** Función para navegación suave entre secciones */
@@ -7,6 +7,49 @@
 const BASE = ((import.meta as any).env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/\/$/, '');
 const API_BASE_URL = BASE.endsWith('/api') ? BASE : `${BASE}/api`;
 
+// Copia estática de la API pública (perfil Maven static-export), p. ej. "/api-static". Opcional.
+const STATIC_API_URL = ((import.meta as any).env.VITE_STATIC_API_URL || '').replace(/\/$/, '');
+
+// Tiempo máximo de la comprobación de revisión; nunca retrasa el primer render.
+const REVISION_TIMEOUT_MS = 1500;
+
+/**
+ * Revisión del contenido actual según el backend (hash de /portfolio), o null
+ * si no responde a tiempo.
+ */
+const fetchRevision = async (): Promise<string | null> => {
+    const controller = new AbortController();
+    const timer = setTimeout(() => controller.abort(), REVISION_TIMEOUT_MS);
+    try {
+        const res = await fetch(`${API_BASE_URL}/static-export/revision`, { signal: controller.signal });
+        return res.ok ? (await res.json()).revision : null;
+    } catch {
+        return null;
+    } finally {
+        clearTimeout(timer);
+    }
+};
+
+/**
+ * Lee una ruta pública desde la exportación estática: manifest.json indica el
+ * fichero con hash que corresponde a la ruta. Devuelve los datos junto al
+ * manifest (para comprobar después si está al día), o null si no está disponible.
+ */
+const fetchStatic = async (route: string) => {
+    if (!STATIC_API_URL) return null;
+    try {
+        const manifest = await fetch(`${STATIC_API_URL}/manifest.json`, { cache: 'no-cache' });
+        if (!manifest.ok) return null;
+        const files = await manifest.json();
+        const file = files[route];
+        if (!file) return null;
+        const res = await fetch(`${STATIC_API_URL}/${file}`);
+        return res.ok ? { data: await res.json(), files } : null;
+    } catch {
+        return null;
+    }
+};
+
 // Configuración de cabeceras comunes para las peticiones
 const getHeaders = () => ({
     'Content-Type': 'application/json',
@@ -28,7 +71,74 @@ const mapProject = (p: any) => ({
     liveUrl: p.demoUrl || p.liveUrl || ''
 });
 
+/**
+ * URL del proxy de imágenes del backend (/images/{hash}?w=), redimensionada y
+ * cacheada. El hash es el mismo que calcula el backend: 16 hex del SHA-256 de la URL.
+ * Si no se puede calcular (contexto no seguro), se usa la URL original.
+ */
+const proxiedImage = async (url: string, width: number) => {
+    if (!url || !/^https?:\/\//.test(url) || !globalThis.crypto?.subtle) return url;
+    try {
+        const digest = await crypto.subtle.digest('SHA-256', new TextEncoder().encode(url));
+        const hash = Array.from(new Uint8Array(digest).slice(0, 8))
+            .map(b => b.toString(16).padStart(2, '0'))
+            .join('');
+        return `${API_BASE_URL}/images/${hash}?w=${width}`;
+    } catch {
+        return url;
+    }
+};
+
+/** /portfolio desde la API. */
+const fetchPortfolio = async () => {
+    const res = await fetch(`${API_BASE_URL}/portfolio`);
+    if (!res.ok) throw new Error('Error al cargar el portafolio');
+    return res.json();
+};
+
+/** Adapta la respuesta de /portfolio al formato del frontend, con imágenes del proxy. */
+const preparePortfolio = async (data: any) => {
+    const projects = await Promise.all((data.projects || []).map(mapProject).map(async (p: any) => ({
+        ...p,
+        images: await Promise.all(p.images.map(async (img: any) => ({ ...img, url: await proxiedImage(img.url, 1280) })))
+    })));
+    const profile = data.profile && {
+        ...data.profile,
+        profileImage: await proxiedImage(data.profile.profileImage, 640)
+    };
+    return {
+        profile,
+        projects,
+        learningTools: data.learningTools || []
+    };
+};
+
 export const apiService = {
+    // --- CARGA INICIAL ---
+
+    /**
+     * Perfil, proyectos y herramientas en una sola petición (primer render).
+     * Con exportación estática se pinta de inmediato desde ella y la revisión se
+     * comprueba en segundo plano: si hay cambios posteriores al despliegue,
+     * onUpdate recibe el contenido actual de la API.
+     */
+    async getPortfolio(onUpdate?: (portfolio: any) => void) {
+        const exported = await fetchStatic('/portfolio');
+        if (!exported) return preparePortfolio(await fetchPortfolio());
+        if (onUpdate) {
+            fetchRevision().then(async revision => {
+                // Sin respuesta del backend se confía en la exportación.
+                if (!revision || exported.files['/portfolio'] === `portfolio.${revision}.json`) return;
+                try {
+                    onUpdate(await preparePortfolio(await fetchPortfolio()));
+                } catch {
+                    // Se mantiene lo ya pintado desde la exportación.
+                }
+            });
+        }
+        return preparePortfolio(exported.data);
+    },
+
     // --- GESTIÓN DE PROYECTOS ---
 
     /** Obtener todos los proyectos */
@@ -132,6 +242,20 @@ export const apiService = {
         return res.json();
     },
 
+    // --- CAMBIOS EN VIVO ---
+
+    /**
+     * Escucha GET /events (SSE): llama a onChange con {entity, id, version, change}
+     * por cada escritura confirmada. EventSource reconecta solo; devuelve la
+     * función para cerrar la conexión.
+     */
+    subscribeToChanges(onChange: (change: { entity: 'PROFILE' | 'PROJECTS' | 'LEARNING_TOOLS', id: number | null, version: number, change: 'UPSERTED' | 'DELETED' | 'BULK' }) => void) {
+        if (typeof EventSource === 'undefined') return () => { };
+        const source = new EventSource(`${API_BASE_URL}/events`);
+        source.addEventListener('change', (event) => onChange(JSON.parse((event as MessageEvent).data)));
+        return () => source.close();
+    },
+
     // --- AUTENTICACIÓN ---
 
     /** Iniciar sesión en el panel de administración */
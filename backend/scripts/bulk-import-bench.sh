@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Mide una importación masiva: genera N proyectos en NDJSON y los envía a
+# POST /api/projects/bulk contra un backend ya arrancado.
+#
+# Requisitos: backend en marcha con PostgreSQL, un JWT de ADMIN en TOKEN, curl y jq.
+#
+#   TOKEN=$(curl -s -X POST localhost:8080/api/auth/login -H 'Content-Type: application/json' \
+#       -d '{"username":"admin","password":"..."}' | jq -r .token) \
+#     ROWS=100000 scripts/bulk-import-bench.sh
+set -euo pipefail
+
+ROWS=${ROWS:-100000}
+URL=${URL:-http://localhost:8080/api/projects/bulk}
+FILE=$(mktemp --suffix=.ndjson)
+trap 'rm -f "$FILE"' EXIT
+
+: "${TOKEN:?Define TOKEN con un JWT de ADMIN}"
+command -v jq >/dev/null || { echo "Falta 'jq' en el PATH" >&2; exit 1; }
+
+awk -v n="$ROWS" 'BEGIN {
+    for (i = 1; i <= n; i++)
+        printf "{\"title\":\"Proyecto %d\",\"description\":\"Carga masiva\",\"architecture\":\"Backend\"," \
+               "\"technologies\":[\"Java\",\"Quarkus\"],\"features\":[\"Importado\"],\"imageUrls\":[]}\n", i
+}' > "$FILE"
+echo "Enviando $ROWS proyectos ($(du -h "$FILE" | cut -f1))"
+
+start=$(date +%s.%N)
+curl -sf -X POST "$URL" \
+    -H "Authorization: Bearer $TOKEN" \
+    -H 'Content-Type: application/x-ndjson' \
+    --data-binary "@$FILE" \
+    | jq '{created, updated, failed, firstError: ([.items[] | select(.status == "FAILED")][0])}'
+end=$(date +%s.%N)
+
+awk -v s="$start" -v e="$end" -v n="$ROWS" 'BEGIN { t = e - s; printf "%.1f s, %.0f filas/s\n", t, n / t }'
@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+# Compara el throughput de las lecturas GET con portfolio.persistence.mode=blocking
+# frente a reactive bajo alta concurrencia.
+#
+# Requisitos: jar construido (./mvnw package), PostgreSQL con datos accesible con
+# las variables DB_* del perfil prod, y `hey` (https://github.com/rakyll/hey).
+#
+# El modelo de lectura y los ETags se desactivan para que cada petición llegue a
+# la base de datos, y el pool de workers se limita (WORKERS) para que se note la
+# diferencia entre ocupar un worker por petición o no.
+#
+#   DB_HOST=localhost DB_NAME=portfolio DB_USERNAME=postgres DB_PASSWORD=postgres \
+#     scripts/persistence-mode-bench.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${CONCURRENCY:-256}
+DURATION=${DURATION:-30s}
+WORKERS=${WORKERS:-16}
+PORT=${PORT:-8089}
+PATHS=${PATHS:-"/api/projects /api/projects?limit=20 /api/learning-tools"}
+JAR=target/quarkus-app/quarkus-run.jar
+
+command -v hey >/dev/null || { echo "Falta 'hey' en el PATH" >&2; exit 1; }
+[ -f "$JAR" ] || { echo "No existe $JAR: ejecuta ./mvnw package" >&2; exit 1; }
+
+run_mode() {
+    local mode=$1
+    PORTFOLIO_PERSISTENCE_MODE=$mode \
+    PORTFOLIO_READ_MODEL_ENABLED=false \
+    PORTFOLIO_HTTP_CACHE_ENABLED=false \
+    PORTFOLIO_RATE_LIMIT_ENABLED=false \
+    QUARKUS_THREAD_POOL_MAX_THREADS=$WORKERS \
+    QUARKUS_HTTP_PORT=$PORT \
+    QUARKUS_HIBERNATE_ORM_LOG_SQL=false \
+        java -jar "$JAR" >"target/bench-$mode.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:$PORT/api/health" >/dev/null && break
+        sleep 1
+    done
+
+    for path in $PATHS; do
+        local url="http://localhost:$PORT$path"
+        hey -z 5s -c "$CONCURRENCY" "$url" >/dev/null # calentamiento
+        local rps p99
+        rps=$(hey -z "$DURATION" -c "$CONCURRENCY" "$url" | tee "target/bench-$mode-${path//[\/?=&]/_}.txt" \
+            | awk '/Requests\/sec/ {print $2}')
+        p99=$(awk '/99% in/ {print $3}' "target/bench-$mode-${path//[\/?=&]/_}.txt")
+        printf "%-9s %-28s %12s req/s   p99 %ss\n" "$mode" "$path" "$rps" "$p99"
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+echo "concurrencia=$CONCURRENCY duración=$DURATION workers=$WORKERS"
+run_mode blocking
+run_mode reactive
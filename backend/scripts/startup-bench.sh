@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# Mide el arranque en frío: milisegundos desde el lanzamiento del proceso hasta
+# el primer GET /api/projects con 200, y la memoria residente en ese momento.
+# Compara el jar en JVM, el jar con AppCDS y, si existe, el ejecutable nativo.
+#
+# Requisitos: jar construido (./mvnw package), PostgreSQL accesible con las
+# variables DB_* del perfil prod y el esquema ya creado (un arranque previo del
+# jar basta). Para el modo nativo: ./mvnw package -Dnative.
+#
+# La generación del esquema se desactiva (DB_SCHEMA_GENERATION=none) para medir
+# lo mismo que un despliegue con escalado a cero.
+#
+#   DB_HOST=localhost DB_NAME=portfolio DB_USERNAME=postgres DB_PASSWORD=postgres \
+#     RUNS=10 scripts/startup-bench.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8091}
+JAR=target/quarkus-app/quarkus-run.jar
+CDS=target/app-cds.jsa
+RUNNER=$(ls target/*-runner 2>/dev/null | head -1 || true)
+
+[ -f "$JAR" ] || { echo "No existe $JAR: ejecuta ./mvnw package" >&2; exit 1; }
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Arranca el comando, espera la primera respuesta 200 y escribe "ms rss_kb".
+measure() {
+    local log=$1
+    shift
+    local start pid elapsed rss
+    start=$(now_ms)
+    # Sin envíos reales: la primera pasada del despachador depende de
+    # initial-delay, y el puerto 9 rechaza la conexión si aun así corre.
+    DB_SCHEMA_GENERATION=${DB_SCHEMA_GENERATION:-none} \
+    RESEND_DISPATCHER_INTERVAL=1h \
+    RESEND_DISPATCHER_INITIAL_DELAY=1h \
+    RESEND_API_URL=http://127.0.0.1:9 \
+    PORTFOLIO_RATE_LIMIT_ENABLED=false \
+    QUARKUS_HTTP_PORT=$PORT \
+        "$@" >"$log" 2>&1 &
+    pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/projects"; do
+        kill -0 "$pid" 2>/dev/null || { echo "El proceso terminó antes de responder; ver $log" >&2; exit 1; }
+        [ $(( $(now_ms) - start )) -lt 60000 ] || { echo "Sin respuesta en 60 s; ver $log" >&2; exit 1; }
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status" 2>/dev/null || echo 0)
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+    echo "$elapsed $rss"
+}
+
+run_mode() {
+    local label=$1
+    shift
+    local times=() rss=() result
+    for i in $(seq 1 "$RUNS"); do
+        result=$(measure "target/startup-$label.log" "$@")
+        times+=("${result% *}")
+        rss+=("${result#* }")
+    done
+    local sorted
+    sorted=($(printf "%s\n" "${times[@]}" | sort -n))
+    local rss_sorted
+    rss_sorted=($(printf "%s\n" "${rss[@]}" | sort -n))
+    printf "%-8s min %6s ms   mediana %6s ms   max %6s ms   RSS mediana %6s MB\n" "$label" \
+        "${sorted[0]}" "${sorted[$(( RUNS / 2 ))]}" "${sorted[$(( RUNS - 1 ))]}" \
+        "$(( rss_sorted[$(( RUNS / 2 ))] / 1024 ))"
+}
+
+if [ ! -f "$CDS" ] || [ "$CDS" -ot "$JAR" ]; then
+    echo "Generando $CDS..."
+    java -XX:ArchiveClassesAtExit="$CDS" -Dquarkus.appcds.generate=true -jar "$JAR" >target/startup-cds-gen.log 2>&1
+fi
+
+echo "ejecuciones=$RUNS puerto=$PORT"
+run_mode jvm java -jar "$JAR"
+run_mode appcds java -XX:SharedArchiveFile="$CDS" -jar "$JAR"
+if [ -n "$RUNNER" ]; then
+    run_mode native "$RUNNER"
+else
+    echo "native   sin ejecutable (./mvnw package -Dnative)"
+fi
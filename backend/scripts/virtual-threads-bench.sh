@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Compara throughput y p99 de los endpoints bloqueantes en el pool de workers
+# (PORTFOLIO_VIRTUAL_THREADS=false) frente a hilos virtuales (true).
+#
+# Requisitos: Java 21+, jar construido (./mvnw package), PostgreSQL accesible con
+# las variables DB_* del perfil prod, y `hey` (https://github.com/rakyll/hey).
+#
+# El modelo de lectura y los ETags se desactivan para que GET /api/profile vaya a
+# la base de datos; el rate limit también, y el despachador de Resend se retrasa
+# para que POST /api/contact mida solo la inserción en el outbox.
+#
+#   DB_HOST=localhost DB_NAME=portfolio DB_USERNAME=postgres DB_PASSWORD=postgres \
+#     scripts/virtual-threads-bench.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${CONCURRENCY:-512}
+DURATION=${DURATION:-30s}
+WORKERS=${WORKERS:-16}
+PORT=${PORT:-8089}
+JAR=target/quarkus-app/quarkus-run.jar
+CONTACT='{"name":"Bench","email":"bench@example.com","message":"Mensaje de carga"}'
+
+command -v hey >/dev/null || { echo "Falta 'hey' en el PATH" >&2; exit 1; }
+[ -f "$JAR" ] || { echo "No existe $JAR: ejecuta ./mvnw package" >&2; exit 1; }
+java_major=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+[ "${java_major%%.*}" -ge 21 ] || { echo "Se necesita Java 21+ (encontrado $java_major)" >&2; exit 1; }
+
+report() {
+    local label=$1 name=$2 file=$3
+    printf "%-9s %-22s %12s req/s   p99 %ss\n" "$label" "$name" \
+        "$(awk '/Requests\/sec/ {print $2}' "$file")" "$(awk '/99% in/ {print $3}' "$file")"
+}
+
+run_mode() {
+    local label=$1 enabled=$2
+    PORTFOLIO_VIRTUAL_THREADS=$enabled \
+    PORTFOLIO_READ_MODEL_ENABLED=false \
+    PORTFOLIO_HTTP_CACHE_ENABLED=false \
+    PORTFOLIO_RATE_LIMIT_ENABLED=false \
+    RESEND_DISPATCHER_INTERVAL=1h \
+    QUARKUS_THREAD_POOL_MAX_THREADS=$WORKERS \
+    QUARKUS_HTTP_PORT=$PORT \
+    QUARKUS_HIBERNATE_ORM_LOG_SQL=false \
+        java -jar "$JAR" >"target/bench-vt-$label.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:$PORT/api/health" >/dev/null && break
+        sleep 1
+    done
+
+    local base="http://localhost:$PORT/api"
+    hey -z 5s -c "$CONCURRENCY" "$base/profile" >/dev/null # calentamiento
+    hey -z "$DURATION" -c "$CONCURRENCY" "$base/profile" >"target/bench-vt-$label-profile.txt"
+    report "$label" "GET /api/profile" "target/bench-vt-$label-profile.txt"
+
+    hey -z "$DURATION" -c "$CONCURRENCY" -m POST -T application/json -d "$CONTACT" \
+        "$base/contact" >"target/bench-vt-$label-contact.txt"
+    report "$label" "POST /api/contact" "target/bench-vt-$label-contact.txt"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+echo "concurrencia=$CONCURRENCY duración=$DURATION workers=$WORKERS"
+run_mode workers false
+run_mode virtual true
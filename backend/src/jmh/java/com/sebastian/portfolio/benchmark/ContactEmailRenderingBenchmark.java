@@ -0,0 +1,113 @@
+package com.sebastian.portfolio.benchmark;
+
+import com.sebastian.portfolio.application.dto.ContactDTO;
+import com.sebastian.portfolio.application.notification.ContactEmailRenderer;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renderizado del email de contacto: ruta anterior (String.format + replace)
+ * frente a {@link ContactEmailRenderer}. Ejecutar con {@code -prof gc} para
+ * comparar también los bytes asignados por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContactEmailRenderingBenchmark {
+    private ContactEmailRenderer renderer;
+    private ContactDTO contact;
+
+    @Setup
+    public void setup() {
+        renderer = new ContactEmailRenderer();
+        contact = new ContactDTO(1L, "Ada Lovelace", "ada@example.com",
+                "Hola Sebastian,\nMe interesa tu perfil para un puesto backend.\n\nSaludos.",
+                LocalDateTime.now());
+    }
+
+    @Benchmark
+    public String legacyStringFormat() {
+        return legacy(contact);
+    }
+
+    @Benchmark
+    public String precompiledRenderer() {
+        return renderer.renderResendPayload(contact);
+    }
+
+    // Copia literal del cuerpo de ContactService.sendEmailViaResend antes del cambio.
+    private static String legacy(ContactDTO contact) {
+        String htmlContent = String.format(
+                "<div style='background-color: #02040a; padding: 20px; font-family: \"Segoe UI\", Roboto, Helvetica, Arial, sans-serif; color: #ffffff;'>"
+                        +
+                        "  <table align='center' border='0' cellpadding='0' cellspacing='0' width='100%%' style='max-width: 600px; background-color: #050a10; border: 1px solid #1a2233; border-collapse: collapse;'>"
+                        +
+                        "    <tr>" +
+                        "      <td style='padding: 30px 40px; border-bottom: 2px solid #00f3ff; background: linear-gradient(90deg, #050a10 0%%, #0a111c 100%%);'>"
+                        +
+                        "        <h1 style='color: #00f3ff; font-size: 18px; text-transform: uppercase; letter-spacing: 4px; margin: 0; font-weight: 900;'>SYSTEM_DECRYPT</h1>"
+                        +
+                        "        <div style='height: 2px; width: 40px; background-color: #bc13fe; margin-top: 8px;'></div>"
+                        +
+                        "      </td>" +
+                        "    </tr>" +
+                        "    <tr>" +
+                        "      <td style='padding: 40px;'>" +
+                        "        <p style='color: #8892b0; font-size: 10px; text-transform: uppercase; letter-spacing: 2px; margin-bottom: 25px;'>[ CANAL_DE_ENTRADA_ACTIVO ]</p>"
+                        +
+                        "        <table width='100%%' style='margin-bottom: 30px;'>" +
+                        "          <tr>" +
+                        "            <td style='padding: 20px; background-color: #0a111c; border-left: 3px solid #00f3ff;'>"
+                        +
+                        "              <div style='color: #00f3ff; font-size: 10px; text-transform: uppercase; margin-bottom: 5px; font-weight: bold;'>ORIGEN_DATOS</div>"
+                        +
+                        "              <div style='font-size: 20px; color: #ffffff; font-weight: bold;'>%s</div>" +
+                        "              <div style='font-size: 13px; color: #8892b0; margin-top: 4px;'>%s</div>" +
+                        "            </td>" +
+                        "          </tr>" +
+                        "        </table>" +
+                        "        <div style='color: #bc13fe; font-size: 10px; text-transform: uppercase; margin-bottom: 10px; font-weight: bold;'>CONTENIDO_DEL_PAQUETE</div>"
+                        +
+                        "        <div style='padding: 25px; background-color: #0d1624; border: 1px solid #1a2233; color: #e0f7fa; line-height: 1.8; font-size: 15px; border-radius: 4px;'>"
+                        +
+                        "          %s" +
+                        "        </div>" +
+                        "        <table width='100%%' style='margin-top: 30px;'>" +
+                        "          <tr>" +
+                        "            <td>" +
+                        "              <div style='display: inline-block; padding: 8px 15px; background-color: rgba(0, 243, 255, 0.1); border: 1px solid #00f3ff; color: #00f3ff; font-size: 10px; font-weight: bold; border-radius: 2px;'>STATUS: ANALIZADO</div>"
+                        +
+                        "            </td>" +
+                        "          </tr>" +
+                        "        </table>" +
+                        "      </td>" +
+                        "    </tr>" +
+                        "    <tr>" +
+                        "      <td style='padding: 20px 40px; background-color: #02040a; border-top: 1px solid #1a2233; text-align: center;'>"
+                        +
+                        "        <p style='font-size: 10px; color: #4b5563; font-family: monospace; margin: 0;'>PROTOCOLO_DE_COMUNICACIÓN // V1.5.0 // TIAN_RESOURCES</p>"
+                        +
+                        "      </td>" +
+                        "    </tr>" +
+                        "  </table>" +
+                        "</div>",
+                contact.name(), contact.email(), contact.message().replace("\n", "<br/>"));
+
+        return String.format(
+                "{\"from\": \"onboarding@resend.dev\", \"to\": \"sebastianmarriagahoyos@gmail.com\", \"subject\": \"🚀 NUEVO_DATOS: %s\", \"html\": \"%s\"}",
+                contact.name(), htmlContent.replace("\"", "\\\"").replace("\n", " "));
+    }
+}
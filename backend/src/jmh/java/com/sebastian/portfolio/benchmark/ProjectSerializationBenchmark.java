@@ -0,0 +1,67 @@
+package com.sebastian.portfolio.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.mapper.ProjectMapper;
+import com.sebastian.portfolio.infrastructure.persistence.repository.ProjectMappingBenchmark;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialización Jackson de {@code List<ProjectDTO>} (lo que devuelve
+ * GET /projects) con 10, 1.000 y 100.000 elementos: a un byte[] completo y en
+ * streaming a un OutputStream, como escribe la respuesta HTTP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectSerializationBenchmark {
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private List<ProjectDTO> projects;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setup() {
+        ProjectMapper mapper = new ProjectMapper();
+        projects = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> mapper.toDTO(ProjectMappingBenchmark.sampleProject(id)))
+                .collect(Collectors.toList());
+        // Writer tipado como el que resuelve Quarkus REST para el tipo de retorno del recurso.
+        writer = new ObjectMapper().findAndRegisterModules()
+                .writerFor(new TypeReference<List<ProjectDTO>>() {
+                });
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public void toStream() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), projects);
+    }
+}
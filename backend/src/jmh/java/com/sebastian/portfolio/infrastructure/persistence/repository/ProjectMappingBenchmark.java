@@ -0,0 +1,81 @@
+package com.sebastian.portfolio.infrastructure.persistence.repository;
+
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.mapper.ProjectMapper;
+import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.infrastructure.persistence.entity.ProjectEntity;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Coste por proyecto de cada conversión entre capas: entidad → dominio
+ * (copia las colecciones), dominio → entidad, y dominio ↔ DTO. Está en el
+ * paquete del repositorio porque toDomain/toEntity no son públicas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectMappingBenchmark {
+    private PanacheProjectRepository repository;
+    private ProjectMapper mapper;
+    private ProjectEntity entity;
+    private Project project;
+    private ProjectDTO dto;
+
+    @Setup
+    public void setup() {
+        // Las conversiones no tocan la base de datos: no hace falta el repositorio interno.
+        repository = new PanacheProjectRepository(null);
+        mapper = new ProjectMapper();
+        project = sampleProject(1L);
+        entity = repository.toEntity(project);
+        dto = mapper.toDTO(project);
+    }
+
+    @Benchmark
+    public Project repositoryToDomain() {
+        return repository.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProjectEntity repositoryToEntity() {
+        return repository.toEntity(project);
+    }
+
+    @Benchmark
+    public ProjectDTO mapperToDTO() {
+        return mapper.toDTO(project);
+    }
+
+    @Benchmark
+    public Project mapperToDomain() {
+        return mapper.toDomain(dto);
+    }
+
+    /** Proyecto con un tamaño parecido a los de import.sql. */
+    public static Project sampleProject(long id) {
+        return new Project(id, "Proyecto " + id,
+                "Plataforma de gestión con API REST, autenticación JWT y panel de administración.",
+                List.of("Java", "Quarkus", "PostgreSQL", "React", "TypeScript", "Docker"),
+                "Los datos vivían en hojas de cálculo sin control de versiones ni permisos.",
+                "Diseño hexagonal, transacciones y despliegue continuo.",
+                List.of("CRUD completo", "Búsqueda por tecnología", "Exportación CSV", "Roles de usuario"),
+                "Hexagonal", "https://github.com/example/project-" + id, "https://example.com/demo/" + id,
+                List.of("https://example.com/img/" + id + "-1.png", "https://example.com/img/" + id + "-2.png",
+                        "https://example.com/img/" + id + "-3.png"),
+                "1.0." + id);
+    }
+}
@@ -0,0 +1,157 @@
+package com.sebastian.portfolio.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arranca el jar de producción ya construido contra un PostgreSQL local, en
+ * una base de datos propia que se recrea en cada ejecución
+ * (drop-and-create): nunca toca la de la aplicación.
+ *
+ * Las variables DB_HOST, DB_PORT, DB_USERNAME y DB_PASSWORD se heredan del
+ * entorno; el resto de variables del entorno también llegan a la aplicación,
+ * así que se puede medir con, p. ej., PORTFOLIO_READ_MODEL_ENABLED=false.
+ */
+final class AppUnderTest implements AutoCloseable {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final URI api;
+    private final Path log;
+    private final String jdbcUrl;
+
+    private AppUnderTest(Process process, URI api, Path log, String jdbcUrl) {
+        this.process = process;
+        this.api = api;
+        this.log = log;
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    static AppUnderTest start(Path jar, int port, String database, Path log) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar))
+            throw new IllegalStateException("No existe " + jar + ": ejecuta ./mvnw package");
+        Files.createDirectories(log.toAbsolutePath().getParent());
+
+        ProcessBuilder builder = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        Map<String, String> env = builder.environment();
+        env.put("QUARKUS_HTTP_PORT", Integer.toString(port));
+        env.put("DB_NAME", database);
+        // El perfil prod fija generation=update: hay que sobrescribir la clave %prod.
+        env.put("_PROD_QUARKUS_HIBERNATE_ORM_DATABASE_GENERATION", "drop-and-create");
+        // Valores del harness salvo que el entorno indique otros.
+        env.putIfAbsent("PORTFOLIO_RATE_LIMIT_ENABLED", "false");
+        env.putIfAbsent("RESEND_API_KEY", "loadtest");
+        // El despachador no debe llegar a la API real de Resend: la primera pasada
+        // depende de initial-delay (no de interval) y, si aun así corre, el
+        // puerto 9 rechaza la conexión.
+        env.putIfAbsent("RESEND_DISPATCHER_INTERVAL", "1h");
+        env.putIfAbsent("RESEND_DISPATCHER_INITIAL_DELAY", "1h");
+        env.putIfAbsent("RESEND_API_URL", "http://127.0.0.1:9");
+        if (!env.containsKey("SMALLRYE_JWT_SIGN_KEY") || !env.containsKey("MP_JWT_VERIFY_PUBLICKEY")) {
+            KeyPair keys = rsaKeys();
+            env.put("SMALLRYE_JWT_SIGN_KEY", pem("PRIVATE KEY", keys.getPrivate().getEncoded()));
+            env.put("MP_JWT_VERIFY_PUBLICKEY", pem("PUBLIC KEY", keys.getPublic().getEncoded()));
+        }
+        String jdbcUrl = "jdbc:postgresql://" + env.getOrDefault("DB_HOST", "localhost") + ":"
+                + env.getOrDefault("DB_PORT", "5432") + "/" + database;
+
+        AppUnderTest app = new AppUnderTest(builder.start(), URI.create("http://localhost:" + port + "/api"), log,
+                jdbcUrl);
+        try {
+            app.awaitHealthy();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    URI api() {
+        return api;
+    }
+
+    /**
+     * Da de alta (o restablece) un usuario ADMIN. La contraseña se guarda en
+     * texto plano: el primer login la migra a bcrypt, como en producción.
+     */
+    void createAdmin(String username, String password) throws SQLException {
+        String user = System.getenv().getOrDefault("DB_USERNAME", "postgres");
+        String secret = System.getenv().getOrDefault("DB_PASSWORD", "");
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, secret);
+                PreparedStatement insert = connection.prepareStatement(
+                        "insert into users (username, password, role) values (?, ?, 'ADMIN') "
+                                + "on conflict (username) do update set password = excluded.password, role = 'ADMIN'")) {
+            insert.setString(1, username);
+            insert.setString(2, password);
+            insert.executeUpdate();
+        }
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(api + "/health")).timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive())
+                throw new IllegalStateException("La aplicación terminó al arrancar (código " + process.exitValue()
+                        + "), ver " + log);
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                    return;
+            } catch (IOException e) {
+                // Todavía no escucha.
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("La aplicación no respondió en " + STARTUP_TIMEOUT.toSeconds()
+                + " s, ver " + log);
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (process.waitFor(15, TimeUnit.SECONDS))
+                return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        process.destroyForcibly();
+    }
+
+    private static KeyPair rsaKeys() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] { '\n' }).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
@@ -0,0 +1,95 @@
+package com.sebastian.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sebastian.portfolio.loadtest.Traffic.Measured;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Resumen por endpoint (throughput y percentiles en ms) en consola y en JSON.
+ * Guardar el JSON de cada release permite compararlas con {@code baseline=}.
+ */
+final class LatencyReport {
+    static final String TOTAL = "total";
+
+    record Stats(long requests, long errors, double throughput, double p50, double p99, double p999, double max) {
+    }
+
+    private final Map<String, Stats> endpoints = new LinkedHashMap<>();
+
+    LatencyReport(Map<String, Measured> measured, Duration duration) {
+        Histogram total = null;
+        long totalErrors = 0;
+        for (Map.Entry<String, Measured> entry : measured.entrySet()) {
+            Histogram latencies = entry.getValue().latencies();
+            endpoints.put(entry.getKey(), stats(latencies, entry.getValue().errors(), duration));
+            if (total == null)
+                total = latencies.copy();
+            else
+                total.add(latencies);
+            totalErrors += entry.getValue().errors();
+        }
+        if (total != null)
+            endpoints.put(TOTAL, stats(total, totalErrors, duration));
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "peticiones", "errores", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, s) -> out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, s.requests(), s.errors(), s.throughput(), s.p50(), s.p99(), s.p999(), s.max()));
+    }
+
+    void write(Path file, Map<String, String> options, ObjectMapper mapper) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("timestamp", Instant.now().toString());
+        document.put("options", options);
+        document.put("endpoints", endpoints);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), document);
+    }
+
+    /** Variación de throughput y p99 respecto a un resultado anterior. */
+    void compare(Path baseline, ObjectMapper mapper, PrintStream out) throws IOException {
+        JsonNode previous = mapper.readTree(baseline.toFile()).path("endpoints");
+        out.printf("%nFrente a %s:%n%-16s %12s %12s%n", baseline, "endpoint", "req/s", "p99");
+        endpoints.forEach((name, s) -> {
+            JsonNode before = previous.path(name);
+            if (before.isMissingNode()) {
+                out.printf("%-16s %12s %12s%n", name, "-", "-");
+                return;
+            }
+            out.printf("%-16s %+11.1f%% %+11.1f%%%n", name,
+                    change(before.path("throughput").asDouble(), s.throughput()),
+                    change(before.path("p99").asDouble(), s.p99()));
+        });
+    }
+
+    private static Stats stats(Histogram latencies, long errors, Duration duration) {
+        long requests = latencies.getTotalCount();
+        double seconds = duration.toNanos() / 1e9;
+        return new Stats(requests, errors, requests / seconds,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100 / before;
+    }
+}
@@ -0,0 +1,97 @@
+package com.sebastian.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Prueba de carga de extremo a extremo (perfil Maven {@code loadtest}):
+ * arranca el jar contra un PostgreSQL local, siembra datos sintéticos, lanza
+ * tráfico mixto y resume throughput y p50/p99/p99.9 por endpoint con
+ * HdrHistogram.
+ *
+ * Opciones ({@code -Dloadtest.args="clave=valor ..."}):
+ * <ul>
+ * <li>{@code url}: API ya desplegada (p. ej. http://localhost:8080/api); sin ella se arranca el jar</li>
+ * <li>{@code port} (8097), {@code db} (portfolio_loadtest): puerto y base de datos del jar arrancado</li>
+ * <li>{@code seed} (true si se arranca el jar), {@code projects} (1000), {@code tools} (100),
+ * {@code messages} (1000): escala de los datos sembrados</li>
+ * <li>{@code concurrency} (32), {@code rate} (0 = modelo cerrado), {@code warmup} (10s), {@code duration} (60s)</li>
+ * <li>{@code mix}: pesos por endpoint, ver {@link Traffic#DEFAULT_MIX}</li>
+ * <li>{@code username}, {@code password}: ADMIN para sembrar y para el login de la mezcla</li>
+ * <li>{@code result} (target/loadtest-result.json), {@code baseline}: JSON de una ejecución anterior</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String url = options.string("url", null);
+        boolean boot = url == null;
+        int port = options.integer("port", 8097);
+        String database = options.string("db", "portfolio_loadtest");
+        boolean seed = options.flag("seed", boot);
+        int projects = options.integer("projects", 1000);
+        int tools = options.integer("tools", 100);
+        int messages = options.integer("messages", 1000);
+        int concurrency = options.integer("concurrency", 32);
+        double rate = options.decimal("rate", 0);
+        Duration warmup = options.duration("warmup", "10s");
+        Duration duration = options.duration("duration", "60s");
+        String mixSpec = options.string("mix", Traffic.DEFAULT_MIX);
+        String username = options.string("username", boot ? "loadtest" : "admin");
+        String password = options.string("password", boot ? "loadtest-password" : "admin123");
+        Path result = Path.of(options.string("result", "target/loadtest-result.json"));
+        String baseline = options.string("baseline", null);
+        Set<String> unknown = options.unknown();
+        if (!unknown.isEmpty())
+            throw new IllegalArgumentException("Opciones desconocidas: " + unknown);
+
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (AppUnderTest app = boot
+                ? AppUnderTest.start(Path.of("target/quarkus-app/quarkus-run.jar"), port, database,
+                        Path.of("target/loadtest-app.log"))
+                : null) {
+            URI api = boot ? app.api() : URI.create(url);
+            System.out.println("API: " + api);
+            if (boot)
+                app.createAdmin(username, password);
+
+            if (seed) {
+                System.out.println("Sembrando datos...");
+                Seeder seeder = new Seeder(client, api, mapper);
+                String token = seeder.login(username, password);
+                seeder.projects(token, projects);
+                seeder.learningTools(token, tools);
+                int rejected = seeder.messages(messages, concurrency);
+                System.out.printf("  %-22s %,d enviados, %,d rechazados%n", "/contact", messages, rejected);
+            }
+
+            List<Traffic.Endpoint> mix = Traffic.parseMix(mixSpec, api, mapper, username, password);
+            System.out.printf("Tráfico: concurrencia=%d %s calentamiento=%ds duración=%ds mezcla=%s%n",
+                    concurrency, rate > 0 ? "tasa=" + rate + " req/s" : "modelo cerrado",
+                    warmup.toSeconds(), duration.toSeconds(), mixSpec);
+            LatencyReport report = new LatencyReport(
+                    new Traffic(client, mix).run(concurrency, rate, warmup, duration), duration);
+
+            System.out.println();
+            report.print(System.out);
+            report.write(result, options.asMap(), mapper);
+            System.out.println("\nResultado: " + result);
+            if (baseline != null)
+                report.compare(Path.of(baseline), mapper, System.out);
+        }
+    }
+}
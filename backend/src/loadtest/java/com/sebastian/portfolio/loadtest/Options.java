@@ -0,0 +1,76 @@
+package com.sebastian.portfolio.loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Opciones {@code clave=valor} de la línea de comandos, p. ej.
+ * {@code -Dloadtest.args="duration=60s concurrency=64 projects=10000"}.
+ * Se recuerdan las claves leídas para avisar de las mal escritas.
+ */
+final class Options {
+    private final Map<String, String> values = new TreeMap<>();
+    private final Set<String> read = new HashSet<>();
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.isEmpty())
+                    continue;
+                int separator = token.indexOf('=');
+                if (separator <= 0)
+                    throw new IllegalArgumentException("Opción sin valor (se espera clave=valor): " + token);
+                options.values.put(token.substring(0, separator), token.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    String string(String key, String defaultValue) {
+        read.add(key);
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int integer(String key, int defaultValue) {
+        String value = string(key, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    double decimal(String key, double defaultValue) {
+        String value = string(key, null);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    boolean flag(String key, boolean defaultValue) {
+        String value = string(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /** Admite {@code 500ms}, {@code 30s} y {@code 2m}. */
+    Duration duration(String key, String defaultValue) {
+        String value = string(key, defaultValue);
+        if (value.endsWith("ms"))
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s"))
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m"))
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        throw new IllegalArgumentException("Duración no válida para " + key + ": " + value);
+    }
+
+    /** Claves indicadas que ninguna parte del harness leyó. */
+    Set<String> unknown() {
+        Set<String> unknown = new HashSet<>(values.keySet());
+        unknown.removeAll(read);
+        return unknown;
+    }
+
+    Map<String, String> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+}
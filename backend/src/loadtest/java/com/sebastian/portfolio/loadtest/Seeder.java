@@ -0,0 +1,142 @@
+package com.sebastian.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sebastian.portfolio.application.dto.ContactDTO;
+import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Datos sintéticos a la escala pedida, cargados por la API pública: los
+ * proyectos y herramientas con las importaciones masivas (NDJSON, en tandas
+ * para acotar el tamaño del cuerpo) y los mensajes con POST /contact.
+ */
+final class Seeder {
+    private static final int BATCH = 10_000;
+    private static final List<String> TECHNOLOGIES = List.of("Java", "Quarkus", "PostgreSQL", "React",
+            "TypeScript", "Docker", "Kafka", "Redis");
+    private static final List<String> CATEGORIES = List.of("Backend", "Frontend", "DevOps", "Data");
+    private static final List<String> STATUSES = List.of("LEARNING", "BASIC", "INTERMEDIATE", "MASTERED");
+
+    private final HttpClient client;
+    private final URI api;
+    private final ObjectMapper mapper;
+
+    Seeder(HttpClient client, URI api, ObjectMapper mapper) {
+        this.client = client;
+        this.api = api;
+        this.mapper = mapper;
+    }
+
+    String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/auth/login", "application/json",
+                mapper.writeValueAsString(Map.of("username", username, "password", password))));
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Login de " + username + " rechazado: HTTP " + response.statusCode());
+        return mapper.readTree(response.body()).path("token").asText();
+    }
+
+    void projects(String token, int count) throws IOException, InterruptedException {
+        bulk(token, "/projects/bulk", count, Seeder::project);
+    }
+
+    void learningTools(String token, int count) throws IOException, InterruptedException {
+        bulk(token, "/learning-tools/bulk", count, i -> new LearningToolDTO(null, "Herramienta " + i,
+                CATEGORIES.get(i % CATEGORIES.size()), STATUSES.get(i % STATUSES.size()), i % 101));
+    }
+
+    /** Mensajes de contacto en paralelo; devuelve cuántos fueron rechazados. */
+    int messages(int count, int concurrency) throws InterruptedException {
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, concurrency));
+        try {
+            for (int i = 0; i < count; i++) {
+                HttpRequest request = post("/contact", "application/json", json(contact(i)));
+                pool.execute(() -> {
+                    try {
+                        if (send(request).statusCode() >= 300)
+                            failed.incrementAndGet();
+                    } catch (IOException e) {
+                        failed.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.HOURS);
+        }
+        return failed.get();
+    }
+
+    static ProjectDTO project(int i) {
+        return new ProjectDTO(null, "Proyecto de carga " + i,
+                "Descripción sintética del proyecto " + i + " para pruebas de carga.",
+                List.of(TECHNOLOGIES.get(i % TECHNOLOGIES.size()), TECHNOLOGIES.get((i + 3) % TECHNOLOGIES.size())),
+                "Problema " + i, "Aprendizaje " + i,
+                List.of("Feature A" + i, "Feature B" + i),
+                CATEGORIES.get(i % CATEGORIES.size()),
+                "https://github.com/example/project-" + i, null,
+                List.of("https://picsum.photos/seed/" + i + "/1280/720"), "1.0." + i);
+    }
+
+    static ContactDTO contact(int i) {
+        return new ContactDTO(null, "Visitante " + i, "visitante" + i + "@example.com",
+                "Mensaje de prueba de carga número " + i, null);
+    }
+
+    private void bulk(String token, String path, int count, IntFunction<Object> item)
+            throws IOException, InterruptedException {
+        int created = 0;
+        for (int from = 0; from < count; from += BATCH) {
+            StringBuilder body = new StringBuilder();
+            for (int i = from; i < Math.min(count, from + BATCH); i++)
+                body.append(mapper.writeValueAsString(item.apply(i))).append('\n');
+            HttpRequest request = HttpRequest.newBuilder(URI.create(api + path))
+                    .header("Content-Type", "application/x-ndjson")
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build();
+            HttpResponse<String> response = send(request);
+            if (response.statusCode() != 200)
+                throw new IllegalStateException(path + " respondió HTTP " + response.statusCode());
+            JsonNode result = mapper.readTree(response.body());
+            if (result.path("failed").asInt() > 0)
+                throw new IllegalStateException(path + ": " + result.path("failed").asInt() + " elementos fallidos");
+            created += result.path("created").asInt();
+        }
+        System.out.printf("  %-22s %,d creados%n", path, created);
+    }
+
+    private HttpRequest post(String path, String contentType, String body) {
+        return HttpRequest.newBuilder(URI.create(api + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String json(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,192 @@
+package com.sebastian.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Tráfico mixto contra la API: cada worker elige un endpoint según los pesos
+ * de la mezcla y registra la latencia en el {@link Recorder} de ese endpoint.
+ *
+ * Con {@code rate=0} cada worker envía en cuanto recibe la respuesta anterior
+ * (modelo cerrado). Con una tasa fija cada worker sigue su propio calendario
+ * y la latencia se mide desde el instante en que debía salir la petición: si
+ * el servidor se atasca, la espera acumulada cuenta (sin omisión coordinada).
+ */
+final class Traffic {
+
+    /** Endpoint de la mezcla; {@code request} recibe un número para variar el cuerpo. */
+    record Endpoint(String name, int weight, IntFunction<HttpRequest> request) {
+    }
+
+    /** Peticiones correctas (latencias, ns) y fallidas medidas para un endpoint. */
+    record Measured(Histogram latencies, long errors) {
+    }
+
+    static final String DEFAULT_MIX = "projects:40,projects-page:15,learning-tools:15,profile:20,contact:5,login:5";
+
+    private final HttpClient client;
+    private final List<Endpoint> mix;
+    private final int totalWeight;
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private volatile boolean running = true;
+
+    Traffic(HttpClient client, List<Endpoint> mix) {
+        this.client = client;
+        this.mix = mix;
+        this.totalWeight = mix.stream().mapToInt(Endpoint::weight).sum();
+        for (Endpoint endpoint : mix) {
+            recorders.put(endpoint.name(), new Recorder(3));
+            errors.put(endpoint.name(), new LongAdder());
+        }
+    }
+
+    /**
+     * Endpoints de la mezcla a partir de {@code nombre:peso,...}. Nombres:
+     * projects, projects-page, learning-tools, profile, contact, login.
+     */
+    static List<Endpoint> parseMix(String spec, URI api, ObjectMapper mapper, String username, String password) {
+        Map<String, IntFunction<HttpRequest>> catalog = new LinkedHashMap<>();
+        catalog.put("projects", i -> get(api, "/projects"));
+        catalog.put("projects-page", i -> get(api, "/projects?limit=20"));
+        catalog.put("learning-tools", i -> get(api, "/learning-tools"));
+        catalog.put("profile", i -> get(api, "/profile"));
+        catalog.put("contact", i -> post(api, "/contact", json(mapper, Seeder.contact(i))));
+        String credentials = json(mapper, Map.of("username", username, "password", password));
+        catalog.put("login", i -> post(api, "/auth/login", credentials));
+
+        List<Endpoint> mix = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            IntFunction<HttpRequest> request = catalog.get(parts[0]);
+            if (request == null || parts.length != 2)
+                throw new IllegalArgumentException("Entrada de mezcla no válida: " + entry
+                        + " (endpoints: " + catalog.keySet() + ")");
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0)
+                mix.add(new Endpoint(parts[0], weight, request));
+        }
+        if (mix.isEmpty())
+            throw new IllegalArgumentException("La mezcla no tiene ningún endpoint con peso");
+        return mix;
+    }
+
+    /**
+     * Calienta durante {@code warmup} (se descarta), mide durante
+     * {@code duration} y devuelve lo medido por endpoint.
+     *
+     * @param rate peticiones por segundo en total, o 0 para el modelo cerrado
+     */
+    Map<String, Measured> run(int concurrency, double rate, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long interval = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * concurrency / rate) : 0;
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int k = 0; k < concurrency; k++) {
+            // Calendarios escalonados para que los workers no disparen a la vez.
+            long offset = interval * k / concurrency;
+            workers.execute(() -> work(start + offset, interval));
+        }
+        try {
+            Thread.sleep(warmup.toMillis());
+            recorders.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+            Thread.sleep(duration.toMillis());
+
+            Map<String, Measured> measured = new LinkedHashMap<>();
+            for (Endpoint endpoint : mix)
+                measured.put(endpoint.name(), new Measured(recorders.get(endpoint.name()).getIntervalHistogram(),
+                        errors.get(endpoint.name()).sum()));
+            return measured;
+        } finally {
+            running = false;
+            workers.shutdown();
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS))
+                workers.shutdownNow();
+        }
+    }
+
+    private void work(long firstSend, long interval) {
+        long next = firstSend;
+        int sequence = 0;
+        while (running) {
+            Endpoint endpoint = pick();
+            long intended;
+            if (interval > 0) {
+                intended = next;
+                next += interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0)
+                    LockSupport.parkNanos(wait);
+            } else {
+                intended = System.nanoTime();
+            }
+            int status;
+            try {
+                status = client.send(endpoint.request().apply(sequence++), HttpResponse.BodyHandlers.discarding())
+                        .statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (status >= 200 && status < 400)
+                recorders.get(endpoint.name()).recordValue(System.nanoTime() - intended);
+            else
+                errors.get(endpoint.name()).increment();
+        }
+    }
+
+    private Endpoint pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : mix) {
+            ticket -= endpoint.weight();
+            if (ticket < 0)
+                return endpoint;
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    // Como un navegador en su primera visita: sin ETag y aceptando compresión.
+    private static HttpRequest get(URI api, String path) {
+        return HttpRequest.newBuilder(URI.create(api + path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "br, gzip")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(URI api, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(api + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String json(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sebastian.portfolio.application.concurrency;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca métodos {@code @Transactional} que, en un hilo virtual, deben obtener
+ * antes un permiso de {@link TransactionPermits}. Ver
+ * {@link TransactionPermitInterceptor}.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TransactionPermit {
+}
@@ -0,0 +1,67 @@
+package com.sebastian.portfolio.application.concurrency;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Aplica {@link TransactionPermits} a los métodos {@link TransactionPermit}
+ * solo cuando se ejecutan en un hilo virtual: en el pool de workers la
+ * concurrencia ya está acotada por el propio pool.
+ *
+ * Se ejecuta antes que el interceptor de {@code @Transactional}
+ * (PLATFORM_BEFORE + 200), así que la espera ocurre fuera de la transacción y
+ * sin conexión reservada.
+ */
+@TransactionPermit
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class TransactionPermitInterceptor {
+    // Thread.isVirtual() existe desde Java 21; se compila para Java 17.
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+    // Llamadas anidadas en el mismo hilo reutilizan el permiso ya obtenido.
+    private static final ThreadLocal<Boolean> HOLDING = new ThreadLocal<>();
+
+    private final TransactionPermits permits;
+
+    public TransactionPermitInterceptor(TransactionPermits permits) {
+        this.permits = permits;
+    }
+
+    @AroundInvoke
+    Object guard(InvocationContext context) throws Exception {
+        if (HOLDING.get() != null || !onVirtualThread())
+            return context.proceed();
+        permits.acquire();
+        HOLDING.set(Boolean.TRUE);
+        try {
+            return context.proceed();
+        } finally {
+            HOLDING.remove();
+            permits.release();
+        }
+    }
+
+    private static boolean onVirtualThread() {
+        if (IS_VIRTUAL == null)
+            return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sebastian.portfolio.application.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Permisos para entrar en una transacción desde un hilo virtual.
+ *
+ * Con hilos virtuales no hay un pool de workers que limite la concurrencia:
+ * miles de peticiones pueden llegar a la vez a código transaccional, donde
+ * Narayana, Hibernate y el driver JDBC aún usan {@code synchronized} alrededor
+ * de E/S y fijan (pin) el hilo portador. Acotar las transacciones simultáneas
+ * al tamaño del pool de conexiones deja esperando al resto en un semáforo,
+ * donde el hilo virtual se desmonta sin fijar ningún portador, y evita además
+ * los timeouts al pedir conexión a Agroal.
+ */
+@ApplicationScoped
+public class TransactionPermits {
+    private final MeterRegistry registry;
+
+    @ConfigProperty(name = "portfolio.virtual-threads.max-concurrent-transactions", defaultValue = "20")
+    int maxConcurrentTransactions;
+
+    @ConfigProperty(name = "portfolio.virtual-threads.permit-timeout", defaultValue = "5s")
+    Duration permitTimeout;
+
+    private Semaphore permits;
+    private Counter rejections;
+
+    public TransactionPermits(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrentTransactions, true);
+        Gauge.builder("portfolio.transaction.permits.waiting", permits, Semaphore::getQueueLength)
+                .register(registry);
+        rejections = Counter.builder("portfolio.transaction.permits.rejections").register(registry);
+    }
+
+    /**
+     * Espera un permiso como mucho {@code permit-timeout}; si no llega, falla
+     * con {@link RejectedExecutionException} (503 para el cliente).
+     */
+    public void acquire() throws InterruptedException {
+        if (!permits.tryAcquire(permitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            rejections.increment();
+            throw new RejectedExecutionException("Demasiadas transacciones concurrentes");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
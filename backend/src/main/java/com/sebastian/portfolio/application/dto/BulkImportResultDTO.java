@@ -0,0 +1,25 @@
+package com.sebastian.portfolio.application.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva: totales y el estado de cada elemento,
+ * en el orden de entrada ({@code index} empieza en 0).
+ */
+public record BulkImportResultDTO(
+        int created,
+        int updated,
+        int failed,
+        List<Item> items) {
+
+    public enum Status {
+        CREATED, UPDATED, FAILED
+    }
+
+    public record Item(
+            int index,
+            Long id,
+            Status status,
+            String error) {
+    }
+}
@@ -1,7 +1,9 @@
 package com.sebastian.portfolio.application.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import java.time.LocalDateTime;
 
+@RegisterForReflection
 public record ContactDTO(
         Long id,
         String name,
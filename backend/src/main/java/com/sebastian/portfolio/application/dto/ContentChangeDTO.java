@@ -0,0 +1,24 @@
+package com.sebastian.portfolio.application.dto;
+
+import com.sebastian.portfolio.application.event.ContentSection;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Aviso compacto de una escritura confirmada, sin el contenido: el cliente
+ * vuelve a pedir la sección si le interesa.
+ *
+ * @param entity  sección modificada
+ * @param id      elemento modificado, o {@code null} si cambió toda la sección
+ * @param version versión de la sección tras el cambio (la misma que alimenta los ETags)
+ */
+@RegisterForReflection
+public record ContentChangeDTO(
+        ContentSection entity,
+        Long id,
+        long version,
+        Change change) {
+
+    public enum Change {
+        UPSERTED, DELETED, BULK
+    }
+}
@@ -0,0 +1,14 @@
+package com.sebastian.portfolio.application.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.util.List;
+
+/**
+ * Contenido público completo para el primer render del frontend.
+ */
+@RegisterForReflection
+public record PortfolioDTO(
+        ProfileDTO profile,
+        List<ProjectDTO> projects,
+        List<LearningToolDTO> learningTools) {
+}
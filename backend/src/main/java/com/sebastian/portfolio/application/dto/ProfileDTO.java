@@ -1,5 +1,8 @@
 package com.sebastian.portfolio.application.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
 public record ProfileDTO(
         Long id,
         String name,
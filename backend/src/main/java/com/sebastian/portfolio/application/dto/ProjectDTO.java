@@ -1,7 +1,9 @@
 package com.sebastian.portfolio.application.dto;
 
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import java.util.List;
 
+@RegisterForReflection
 public record ProjectDTO(
                 Long id,
                 String title,
@@ -0,0 +1,10 @@
+package com.sebastian.portfolio.application.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.util.List;
+
+@RegisterForReflection
+public record ProjectPageDTO(
+        List<ProjectDTO> items,
+        Long nextCursor) {
+}
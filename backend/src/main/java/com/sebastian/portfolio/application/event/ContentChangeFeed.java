@@ -0,0 +1,74 @@
+package com.sebastian.portfolio.application.event;
+
+import com.sebastian.portfolio.application.dto.ContentChangeDTO;
+import com.sebastian.portfolio.application.dto.ContentChangeDTO.Change;
+import com.sebastian.portfolio.application.readmodel.PortfolioReadModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.SerializedProcessor;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.interceptor.Interceptor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Difunde a los suscriptores en vivo cada escritura confirmada sobre el
+ * contenido público.
+ *
+ * La difusión no ocupa hilos por suscriptor: el {@link BroadcastProcessor}
+ * (lista de suscriptores con CAS) entrega cada aviso en el hilo que confirmó
+ * la transacción. Varias confirmaciones simultáneas se serializan a la
+ * entrada sin esperar a que otra termine de emitir: quien llega durante una
+ * emisión deja el aviso en cola y sigue. Cada suscriptor tiene su propio
+ * buffer acotado.
+ * Un suscriptor lento que lo llena recibe {@link Change#BULK} para todas las
+ * secciones y se le cierra el flujo; los demás no esperan por él.
+ */
+@ApplicationScoped
+public class ContentChangeFeed {
+    private final BroadcastProcessor<ContentChangeDTO> processor = BroadcastProcessor.create();
+    private final SerializedProcessor<ContentChangeDTO, ContentChangeDTO> input = processor.serialized();
+    private final PortfolioReadModel readModel;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter overflows;
+
+    @ConfigProperty(name = "portfolio.events.buffer-size", defaultValue = "64")
+    int bufferSize;
+
+    public ContentChangeFeed(PortfolioReadModel readModel, MeterRegistry registry) {
+        this.readModel = readModel;
+        Gauge.builder("portfolio.events.subscribers", subscribers, AtomicInteger::get).register(registry);
+        this.overflows = Counter.builder("portfolio.events.overflows").register(registry);
+    }
+
+    /** Flujo caliente: solo llegan los cambios posteriores a la suscripción. */
+    public Multi<ContentChangeDTO> subscribe() {
+        return processor
+                .onOverflow().buffer(bufferSize)
+                .onFailure(BackPressureFailure.class).recoverWithMulti(failure -> {
+                    overflows.increment();
+                    return Multi.createFrom().items(ContentSection.values()).map(this::resync);
+                })
+                .onSubscription().invoke(subscribers::incrementAndGet)
+                .onTermination().invoke(subscribers::decrementAndGet);
+    }
+
+    // Después del modelo de lectura: la versión publicada ya incluye este cambio.
+    void onContentChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+            @Priority(Interceptor.Priority.APPLICATION + 1000) ContentChangedEvent event) {
+        Change change = event.bulk() ? Change.BULK : event.deleted() ? Change.DELETED : Change.UPSERTED;
+        input.onNext(new ContentChangeDTO(event.section(), event.id(), readModel.version(event.section()),
+                change));
+    }
+
+    private ContentChangeDTO resync(ContentSection section) {
+        return new ContentChangeDTO(section, null, readModel.version(section), Change.BULK);
+    }
+}
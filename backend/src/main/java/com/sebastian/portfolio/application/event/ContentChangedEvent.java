@@ -0,0 +1,31 @@
+package com.sebastian.portfolio.application.event;
+
+/**
+ * Evento CDI que se dispara dentro de la transacción de una escritura sobre
+ * contenido público. Los observadores deben usar
+ * {@code @Observes(during = TransactionPhase.AFTER_SUCCESS)} para reaccionar
+ * solo cuando el cambio ya está confirmado en la base de datos.
+ *
+ * Una importación masiva dispara un único evento {@link #bulk(ContentSection)}
+ * por transacción en lugar de uno por elemento: los observadores recargan la
+ * sección entera.
+ *
+ * @param section sección afectada
+ * @param id      identificador del elemento modificado, o {@code null} en una importación masiva
+ * @param value   DTO con el estado confirmado, o {@code null} si se eliminó
+ */
+public record ContentChangedEvent(ContentSection section, Long id, Object value) {
+
+    public static ContentChangedEvent bulk(ContentSection section) {
+        return new ContentChangedEvent(section, null, null);
+    }
+
+    /** Cambiaron muchos elementos de la sección a la vez. */
+    public boolean bulk() {
+        return id == null;
+    }
+
+    public boolean deleted() {
+        return id != null && value == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.sebastian.portfolio.application.event;
+
+/**
+ * Secciones de contenido público del portafolio que pueden cambiar por una
+ * escritura del administrador.
+ */
+public enum ContentSection {
+    PROFILE,
+    PROJECTS,
+    LEARNING_TOOLS
+}
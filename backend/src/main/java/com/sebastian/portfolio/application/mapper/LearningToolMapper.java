@@ -7,6 +7,8 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class LearningToolMapper {
     public LearningToolDTO toDTO(LearningTool tool) {
+        if (tool == null)
+            return null;
         return new LearningToolDTO(tool.getId(), tool.getName(), tool.getCategory(),
                 tool.getStatus(), tool.getProgress());
     }
@@ -0,0 +1,21 @@
+package com.sebastian.portfolio.application.metrics;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca los adaptadores de los puertos ({@code *UseCase}, {@code *OutputPort}):
+ * cada método de un puerto pasa a registrar el timer
+ * {@code portfolio.port.calls}. Ver {@link MeasuredInterceptor}.
+ *
+ * CDI no hereda bindings de interfaces, así que la anotación va en la clase
+ * que implementa el puerto, no en el puerto.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Measured {
+}
@@ -0,0 +1,106 @@
+package com.sebastian.portfolio.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mide los métodos de puerto de las clases {@link Measured} con el timer
+ * {@code portfolio.port.calls}, etiquetado por {@code direction} (in/out),
+ * {@code port}, {@code method}, {@code outcome} y {@code exception}.
+ *
+ * Para {@link Uni} y {@link CompletionStage} se mide hasta que el resultado
+ * termina, no solo hasta que se devuelve. Los métodos que no pertenecen a
+ * ningún puerto del dominio no se miden.
+ *
+ * Es el interceptor más externo, así que incluye la espera de permiso y el
+ * commit de la transacción.
+ */
+@Measured
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class MeasuredInterceptor {
+    static final String TIMER = "portfolio.port.calls";
+    private static final String PORT_PACKAGE = "com.sebastian.portfolio.domain.port.";
+
+    private final MeterRegistry registry;
+    private final Map<Method, Optional<Tags>> portTags = new ConcurrentHashMap<>();
+
+    public MeasuredInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        Optional<Tags> tags = portTags.computeIfAbsent(context.getMethod(), MeasuredInterceptor::resolvePort);
+        if (tags.isEmpty())
+            return context.proceed();
+
+        Timer.Sample sample = Timer.start(registry);
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Exception e) {
+            stop(sample, tags.get(), e);
+            throw e;
+        }
+        if (result instanceof Uni<?> uni)
+            return uni.onTermination().invoke((item, failure, cancelled) -> stop(sample, tags.get(), failure));
+        if (result instanceof CompletionStage<?> stage)
+            return stage.whenComplete((item, failure) -> stop(sample, tags.get(), unwrap(failure)));
+        stop(sample, tags.get(), null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, Tags tags, Throwable failure) {
+        sample.stop(Timer.builder(TIMER)
+                .tags(tags)
+                .tag("outcome", failure == null ? "success" : "error")
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(registry));
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    // Busca, entre las interfaces de la clase, el puerto del dominio que declara el método.
+    private static Optional<Tags> resolvePort(Method method) {
+        return findPort(method.getDeclaringClass(), method)
+                .map(port -> Tags.of(
+                        "direction", port.getPackageName().substring(PORT_PACKAGE.length()),
+                        "port", port.getSimpleName(),
+                        "method", method.getName()));
+    }
+
+    private static Optional<Class<?>> findPort(Class<?> type, Method method) {
+        if (type.isInterface() && type.getPackageName().startsWith(PORT_PACKAGE) && declares(type, method))
+            return Optional.of(type);
+        for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+            for (Class<?> iface : candidate.getInterfaces()) {
+                Optional<Class<?>> port = findPort(iface, method);
+                if (port.isPresent())
+                    return port;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean declares(Class<?> iface, Method method) {
+        return Arrays.stream(iface.getMethods())
+                .anyMatch(m -> m.getName().equals(method.getName())
+                        && Arrays.equals(m.getParameterTypes(), method.getParameterTypes()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.sebastian.portfolio.application.notification;
+
+import com.sebastian.portfolio.application.dto.ContactDTO;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Genera el cuerpo JSON de la petición a Resend para un mensaje de contacto.
+ *
+ * La plantilla se compila una vez y el JSON completo (sobre + HTML) se escribe
+ * en un único buffer dimensionado de antemano; la única copia es el String final.
+ * No se reutiliza por hilo: cada petición corre en su propio hilo virtual.
+ */
+@ApplicationScoped
+public class ContactEmailRenderer {
+    private static final String FROM = "onboarding@resend.dev";
+    private static final String TO = "sebastianmarriagahoyos@gmail.com";
+    private static final String SUBJECT_PREFIX = "🚀 NUEVO_DATOS: ";
+
+    static final String TEMPLATE = """
+            <div style='background-color: #02040a; padding: 20px; font-family: "Segoe UI", Roboto, Helvetica, Arial, sans-serif; color: #ffffff;'>
+              <table align='center' border='0' cellpadding='0' cellspacing='0' width='100%' style='max-width: 600px; background-color: #050a10; border: 1px solid #1a2233; border-collapse: collapse;'>
+                <tr>
+                  <td style='padding: 30px 40px; border-bottom: 2px solid #00f3ff; background: linear-gradient(90deg, #050a10 0%, #0a111c 100%);'>
+                    <h1 style='color: #00f3ff; font-size: 18px; text-transform: uppercase; letter-spacing: 4px; margin: 0; font-weight: 900;'>SYSTEM_DECRYPT</h1>
+                    <div style='height: 2px; width: 40px; background-color: #bc13fe; margin-top: 8px;'></div>
+                  </td>
+                </tr>
+                <tr>
+                  <td style='padding: 40px;'>
+                    <p style='color: #8892b0; font-size: 10px; text-transform: uppercase; letter-spacing: 2px; margin-bottom: 25px;'>[ CANAL_DE_ENTRADA_ACTIVO ]</p>
+                    <table width='100%' style='margin-bottom: 30px;'>
+                      <tr>
+                        <td style='padding: 20px; background-color: #0a111c; border-left: 3px solid #00f3ff;'>
+                          <div style='color: #00f3ff; font-size: 10px; text-transform: uppercase; margin-bottom: 5px; font-weight: bold;'>ORIGEN_DATOS</div>
+                          <div style='font-size: 20px; color: #ffffff; font-weight: bold;'>{{name}}</div>
+                          <div style='font-size: 13px; color: #8892b0; margin-top: 4px;'>{{email}}</div>
+                        </td>
+                      </tr>
+                    </table>
+                    <div style='color: #bc13fe; font-size: 10px; text-transform: uppercase; margin-bottom: 10px; font-weight: bold;'>CONTENIDO_DEL_PAQUETE</div>
+                    <div style='padding: 25px; background-color: #0d1624; border: 1px solid #1a2233; color: #e0f7fa; line-height: 1.8; font-size: 15px; border-radius: 4px;'>
+                      {{message|nl2br}}
+                    </div>
+                    <table width='100%' style='margin-top: 30px;'>
+                      <tr>
+                        <td>
+                          <div style='display: inline-block; padding: 8px 15px; background-color: rgba(0, 243, 255, 0.1); border: 1px solid #00f3ff; color: #00f3ff; font-size: 10px; font-weight: bold; border-radius: 2px;'>STATUS: ANALIZADO</div>
+                        </td>
+                      </tr>
+                    </table>
+                  </td>
+                </tr>
+                <tr>
+                  <td style='padding: 20px 40px; background-color: #02040a; border-top: 1px solid #1a2233; text-align: center;'>
+                    <p style='font-size: 10px; color: #4b5563; font-family: monospace; margin: 0;'>PROTOCOLO_DE_COMUNICACIÓN // V1.5.0 // TIAN_RESOURCES</p>
+                  </td>
+                </tr>
+              </table>
+            </div>
+            """;
+
+    private static final EmailTemplate HTML = EmailTemplate.compile(TEMPLATE, "name", "email", "message");
+    private static final String ENVELOPE_PREFIX;
+
+    static {
+        StringBuilder prefix = new StringBuilder("{\"from\":\"");
+        Escaping.appendJson(prefix, FROM);
+        prefix.append("\",\"to\":\"");
+        Escaping.appendJson(prefix, TO);
+        prefix.append("\",\"subject\":\"");
+        Escaping.appendJson(prefix, SUBJECT_PREFIX);
+        ENVELOPE_PREFIX = prefix.toString();
+    }
+
+    public String renderResendPayload(ContactDTO contact) {
+        // Texto fijo más los campos (el nombre va en el asunto y en el HTML), sin contar el escapado.
+        StringBuilder out = new StringBuilder(ENVELOPE_PREFIX.length() + HTML.literalLength()
+                + 2 * length(contact.name()) + length(contact.email()) + length(contact.message()) + 16);
+        out.append(ENVELOPE_PREFIX);
+        Escaping.appendJson(out, contact.name());
+        out.append("\",\"html\":\"");
+        HTML.appendAsJsonString(out, contact.name(), contact.email(), contact.message());
+        out.append("\"}");
+        return out.toString();
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
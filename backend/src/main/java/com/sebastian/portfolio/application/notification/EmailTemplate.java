@@ -0,0 +1,95 @@
+package com.sebastian.portfolio.application.notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plantilla HTML precompilada con marcadores {@code {{parametro}}} o
+ * {@code {{parametro|nl2br}}} (convierte saltos de línea en {@code <br/>}).
+ *
+ * Se analiza una sola vez: los fragmentos literales quedan ya escapados para
+ * ir dentro de un string JSON y cada marcador queda resuelto a una posición,
+ * así que renderizar solo concatena y escapa los valores variables, sin
+ * copias intermedias del documento.
+ */
+public final class EmailTemplate {
+    private final String[] literals;
+    private final int[] slots;
+    private final boolean[] nl2br;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, int[] slots, boolean[] nl2br) {
+        this.literals = literals;
+        this.slots = slots;
+        this.nl2br = nl2br;
+        this.literalLength = Arrays.stream(literals).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compila la plantilla. Se eliminan la sangría y los saltos de línea del
+     * código fuente, que no aportan nada al HTML del email.
+     *
+     * @param parameters nombres de los parámetros, en el orden en que se pasarán
+     *                   los valores a {@link #appendAsJsonString}
+     */
+    public static EmailTemplate compile(String source, String... parameters) {
+        StringBuilder compact = new StringBuilder(source.length());
+        for (String line : source.split("\n")) {
+            compact.append(line.strip());
+        }
+        String text = compact.toString();
+        List<String> params = Arrays.asList(parameters);
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<Boolean> nl2br = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int open = text.indexOf("{{", pos);
+            int close = open < 0 ? -1 : text.indexOf("}}", open);
+            if (close < 0) {
+                literals.add(jsonLiteral(text.substring(pos)));
+                break;
+            }
+            literals.add(jsonLiteral(text.substring(pos, open)));
+            String[] marker = text.substring(open + 2, close).trim().split("\\|");
+            int slot = params.indexOf(marker[0].trim());
+            if (slot < 0)
+                throw new IllegalArgumentException("Parámetro de plantilla no declarado: " + marker[0]);
+            slots.add(slot);
+            nl2br.add(marker.length > 1 && marker[1].trim().equals("nl2br"));
+            pos = close + 2;
+        }
+
+        boolean[] flags = new boolean[nl2br.size()];
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = nl2br.get(i);
+        }
+        return new EmailTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(), flags);
+    }
+
+    /** Longitud de la parte fija ya escapada, útil para dimensionar buffers. */
+    public int literalLength() {
+        return literalLength;
+    }
+
+    /**
+     * Escribe el HTML en {@code out} como contenido de un string JSON (sin las
+     * comillas). Los valores se escapan para HTML y después para JSON.
+     */
+    public void appendAsJsonString(StringBuilder out, String... values) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            Escaping.appendHtmlAsJson(out, values[slots[i]], nl2br[i]);
+        }
+        out.append(literals[literals.length - 1]);
+    }
+
+    private static String jsonLiteral(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        Escaping.appendJson(sb, text);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.sebastian.portfolio.application.notification;
+
+/**
+ * Escapado en una sola pasada, escribiendo directamente en el buffer destino.
+ */
+final class Escaping {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char LINE_SEPARATOR = (char) 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = (char) 0x2029;
+
+    private Escaping() {
+    }
+
+    /**
+     * Escapa {@code value} como contenido de un string JSON (RFC 8259): comillas,
+     * barra invertida y todos los caracteres de control.
+     */
+    static void appendJson(StringBuilder out, String value) {
+        if (value == null)
+            return;
+        for (int i = 0; i < value.length(); i++) {
+            appendJsonChar(out, value.charAt(i));
+        }
+    }
+
+    /**
+     * Escapa {@code value} como texto HTML y el resultado como contenido de un
+     * string JSON. Con {@code newlinesAsBreaks} cada salto de línea se emite como
+     * {@code <br/>} y los retornos de carro se descartan.
+     */
+    static void appendHtmlAsJson(StringBuilder out, String value, boolean newlinesAsBreaks) {
+        if (value == null)
+            return;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                case '\n' -> {
+                    if (newlinesAsBreaks)
+                        out.append("<br/>");
+                    else
+                        appendJsonChar(out, c);
+                }
+                case '\r' -> {
+                    if (!newlinesAsBreaks)
+                        appendJsonChar(out, c);
+                }
+                default -> appendJsonChar(out, c);
+            }
+        }
+    }
+
+    private static void appendJsonChar(StringBuilder out, char c) {
+        switch (c) {
+            case '"' -> out.append("\\\"");
+            case '\\' -> out.append("\\\\");
+            case '\n' -> out.append("\\n");
+            case '\r' -> out.append("\\r");
+            case '\t' -> out.append("\\t");
+            case '\b' -> out.append("\\b");
+            case '\f' -> out.append("\\f");
+            default -> {
+                // Controles, y U+2028/U+2029 que rompen JavaScript aunque el JSON sea válido.
+                if (c < 0x20 || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR) {
+                    out.append("\\u").append(HEX[(c >> 12) & 0xF]).append(HEX[(c >> 8) & 0xF])
+                            .append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sebastian.portfolio.application.readmodel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Vista inmutable de una colección de DTOs indexada por id. Cada escritura
+ * produce una nueva instancia, por lo que puede compartirse entre hilos sin
+ * sincronización.
+ */
+public final class Catalog<T> {
+    private final Map<Long, T> byId;
+    private final List<T> items;
+    private final Function<T, Long> idOf;
+
+    private Catalog(Map<Long, T> byId, Function<T, Long> idOf) {
+        this.byId = Collections.unmodifiableMap(byId);
+        this.items = Collections.unmodifiableList(new ArrayList<>(byId.values()));
+        this.idOf = idOf;
+    }
+
+    public static <T> Catalog<T> of(List<T> items, Function<T, Long> idOf) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        for (T item : items) {
+            byId.put(idOf.apply(item), item);
+        }
+        return new Catalog<>(byId, idOf);
+    }
+
+    public List<T> items() {
+        return items;
+    }
+
+    public Optional<T> find(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Devuelve una copia con el elemento insertado o reemplazado en su posición.
+     */
+    public Catalog<T> with(T item) {
+        Map<Long, T> copy = new LinkedHashMap<>(byId);
+        copy.put(idOf.apply(item), item);
+        return new Catalog<>(copy, idOf);
+    }
+
+    public Catalog<T> without(Long id) {
+        if (!byId.containsKey(id))
+            return this;
+        Map<Long, T> copy = new LinkedHashMap<>(byId);
+        copy.remove(id);
+        return new Catalog<>(copy, idOf);
+    }
+}
@@ -0,0 +1,183 @@
+package com.sebastian.portfolio.application.readmodel;
+
+import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.application.dto.ProfileDTO;
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Modelo de lectura en memoria para los endpoints públicos.
+ * Cada sección se carga desde la base de datos en el primer acceso y después
+ * se mantiene con write-through: las escrituras confirmadas (ver
+ * {@link ContentChangedEvent}) reemplazan la instantánea de forma atómica.
+ */
+@ApplicationScoped
+public class PortfolioReadModel {
+    private final Slot<Catalog<ProjectDTO>> projects;
+    private final Slot<Catalog<LearningToolDTO>> learningTools;
+    private final Slot<ProfileDTO> profile;
+
+    @ConfigProperty(name = "portfolio.read-model.enabled", defaultValue = "true")
+    boolean enabled;
+
+    public PortfolioReadModel(MeterRegistry registry) {
+        this.projects = new Slot<>(registry, ContentSection.PROJECTS);
+        this.learningTools = new Slot<>(registry, ContentSection.LEARNING_TOOLS);
+        this.profile = new Slot<>(registry, ContentSection.PROFILE);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Catalog<ProjectDTO> projects(Supplier<List<ProjectDTO>> loader) {
+        return projects.get(enabled, () -> Catalog.of(
+                loader.get().stream().map(PortfolioReadModel::freeze).collect(Collectors.toList()),
+                ProjectDTO::id));
+    }
+
+    public Catalog<LearningToolDTO> learningTools(Supplier<List<LearningToolDTO>> loader) {
+        return learningTools.get(enabled, () -> Catalog.of(loader.get(), LearningToolDTO::id));
+    }
+
+    public ProfileDTO profile(Supplier<ProfileDTO> loader) {
+        return profile.get(enabled, loader);
+    }
+
+    /**
+     * Como {@link #projects(Supplier)}, pero con un cargador asíncrono: un
+     * acierto se resuelve sin cambiar de hilo ni tocar la base de datos.
+     */
+    public Uni<Catalog<ProjectDTO>> projectsAsync(Supplier<Uni<List<ProjectDTO>>> loader) {
+        return projects.getAsync(enabled, () -> loader.get().map(list -> Catalog.of(
+                list.stream().map(PortfolioReadModel::freeze).collect(Collectors.toList()),
+                ProjectDTO::id)));
+    }
+
+    public Uni<Catalog<LearningToolDTO>> learningToolsAsync(Supplier<Uni<List<LearningToolDTO>>> loader) {
+        return learningTools.getAsync(enabled, () -> loader.get().map(list -> Catalog.of(list, LearningToolDTO::id)));
+    }
+
+    /**
+     * Versión de contenido de la sección: aumenta con cada escritura confirmada,
+     * incluso con el modelo deshabilitado. Sirve para derivar ETags.
+     */
+    public long version(ContentSection section) {
+        return switch (section) {
+            case PROJECTS -> projects.version();
+            case LEARNING_TOOLS -> learningTools.version();
+            case PROFILE -> profile.version();
+        };
+    }
+
+    void onContentChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ContentChangedEvent event) {
+        if (event.bulk()) {
+            switch (event.section()) {
+                case PROJECTS -> projects.invalidate();
+                case LEARNING_TOOLS -> learningTools.invalidate();
+                case PROFILE -> profile.invalidate();
+            }
+            return;
+        }
+        switch (event.section()) {
+            case PROJECTS -> projects.apply(catalog -> event.deleted()
+                    ? catalog.without(event.id())
+                    : catalog.with(freeze((ProjectDTO) event.value())));
+            case LEARNING_TOOLS -> learningTools.apply(catalog -> event.deleted()
+                    ? catalog.without(event.id())
+                    : catalog.with((LearningToolDTO) event.value()));
+            case PROFILE -> profile.apply(current -> (ProfileDTO) event.value());
+        }
+    }
+
+    // Los DTOs se comparten entre peticiones, así que sus listas no deben poder mutarse.
+    private static ProjectDTO freeze(ProjectDTO p) {
+        return new ProjectDTO(p.id(), p.title(), p.description(), unmodifiable(p.technologies()),
+                p.problem(), p.learning(), unmodifiable(p.features()), p.architecture(),
+                p.githubUrl(), p.demoUrl(), unmodifiable(p.imageUrls()), p.version());
+    }
+
+    private static List<String> unmodifiable(List<String> values) {
+        return values == null ? null : Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Celda con la instantánea de una sección. La versión viaja junto al dato
+     * para que una carga concurrente con una escritura no publique datos viejos:
+     * la carga solo se instala si el estado no cambió mientras se consultaba la BD.
+     */
+    private static final class Slot<T> {
+        private record State<T>(long version, T data) {
+        }
+
+        private final AtomicReference<State<T>> state = new AtomicReference<>(new State<>(0, null));
+        private final Counter hits;
+        private final Counter misses;
+
+        Slot(MeterRegistry registry, ContentSection section) {
+            String name = section.name().toLowerCase();
+            this.hits = Counter.builder("portfolio.read.model.requests")
+                    .tag("section", name).tag("result", "hit").register(registry);
+            this.misses = Counter.builder("portfolio.read.model.requests")
+                    .tag("section", name).tag("result", "miss").register(registry);
+        }
+
+        T get(boolean enabled, Supplier<T> loader) {
+            if (!enabled)
+                return loader.get();
+            State<T> current = state.get();
+            if (current.data() != null) {
+                hits.increment();
+                return current.data();
+            }
+            misses.increment();
+            T loaded = loader.get();
+            state.compareAndSet(current, new State<>(current.version(), loaded));
+            return loaded;
+        }
+
+        Uni<T> getAsync(boolean enabled, Supplier<Uni<T>> loader) {
+            if (!enabled)
+                return Uni.createFrom().deferred(loader::get);
+            return Uni.createFrom().deferred(() -> {
+                State<T> current = state.get();
+                if (current.data() != null) {
+                    hits.increment();
+                    return Uni.createFrom().item(current.data());
+                }
+                misses.increment();
+                return loader.get().invoke(loaded ->
+                        state.compareAndSet(current, new State<>(current.version(), loaded)));
+            });
+        }
+
+        long version() {
+            return state.get().version();
+        }
+
+        void apply(UnaryOperator<T> change) {
+            state.updateAndGet(s -> new State<>(s.version() + 1,
+                    s.data() == null ? null : change.apply(s.data())));
+        }
+
+        // Descarta la instantánea: el siguiente acceso la recarga desde la BD.
+        void invalidate() {
+            state.updateAndGet(s -> new State<>(s.version() + 1, null));
+        }
+    }
+}
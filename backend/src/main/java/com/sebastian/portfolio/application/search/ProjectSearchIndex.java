@@ -0,0 +1,226 @@
+package com.sebastian.portfolio.application.search;
+
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.application.mapper.ProjectMapper;
+import com.sebastian.portfolio.domain.port.out.ProjectOutputPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.jboss.logging.Logger;
+
+/**
+ * Índice invertido en memoria para la búsqueda de proyectos.
+ *
+ * Se construye en segundo plano al arrancar desde {@link ProjectOutputPort}
+ * (el servidor acepta peticiones sin esperar a la carga) y después se
+ * mantiene por documento con las escrituras confirmadas de
+ * {@code ProjectService} (ver {@link ContentChangedEvent}): una consulta nunca
+ * recorre la tabla. Si la base de datos no está disponible al arrancar, se
+ * construye en la primera búsqueda.
+ *
+ * Relevancia BM25 con pesos por campo (el título cuenta más que el texto
+ * libre). Todos los términos de la consulta deben aparecer, como palabra
+ * completa o como prefijo; una coincidencia por prefijo puntúa menos.
+ */
+@ApplicationScoped
+public class ProjectSearchIndex {
+    private static final Logger LOG = Logger.getLogger(ProjectSearchIndex.class);
+    private static final float TITLE = 3f;
+    private static final float TECHNOLOGIES = 2f;
+    private static final float FEATURES = 1.5f;
+    private static final float TEXT = 1f;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_FACTOR = 0.5;
+    private static final int PREFIX_MIN_LENGTH = 2;
+
+    private record Document(ProjectDTO project, Map<String, Float> weights, float length) {
+    }
+
+    private final ProjectOutputPort projectRepository;
+    private final ProjectMapper projectMapper;
+
+    // Escrituras y consultas comparten estructuras mutables: lecturas concurrentes, escrituras exclusivas.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private double totalLength;
+    private volatile boolean built;
+
+    public ProjectSearchIndex(ProjectOutputPort projectRepository, ProjectMapper projectMapper,
+            MeterRegistry registry) {
+        this.projectRepository = projectRepository;
+        this.projectMapper = projectMapper;
+        // Lectura sin bloqueo: un tamaño aproximado basta y no hace esperar al scrape.
+        Gauge.builder("portfolio.search.index.documents", documents, Map::size).register(registry);
+        Gauge.builder("portfolio.search.index.terms", postings, Map::size).register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                ensureBuilt();
+            } catch (RuntimeException e) {
+                LOG.warn("No se pudo construir el índice de búsqueda al arrancar: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Proyectos que contienen todos los términos de {@code query}, de más a
+     * menos relevante (a igual puntuación, por id).
+     */
+    public List<ProjectDTO> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchText.tokens(query)));
+        if (terms.isEmpty())
+            return List.of();
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = score(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty())
+                    return List.of();
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(entry -> documents.get(entry.getKey()).project())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void onContentChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ContentChangedEvent event) {
+        if (event.section() != ContentSection.PROJECTS)
+            return;
+        lock.writeLock().lock();
+        try {
+            if (event.bulk()) {
+                // Se reconstruye en la próxima búsqueda.
+                built = false;
+                return;
+            }
+            remove(event.id());
+            if (!event.deleted())
+                add((ProjectDTO) event.value());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Se carga con el bloqueo de escritura tomado: una escritura confirmada durante
+    // la carga espera y se aplica encima, así que no se pierde.
+    private void ensureBuilt() {
+        if (built)
+            return;
+        lock.writeLock().lock();
+        try {
+            if (built)
+                return;
+            List<ProjectDTO> projects = QuarkusTransaction.requiringNew().call(() -> projectRepository.findAll()
+                    .stream()
+                    .map(projectMapper::toDTO)
+                    .toList());
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            projects.forEach(this::add);
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // BM25 de un término: coincidencia exacta y, a menor peso, términos que lo tienen como prefijo.
+    private Map<Long, Double> score(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 1 : totalLength / documents.size();
+        Map<Long, Float> exact = postings.get(term);
+        if (exact != null)
+            accumulate(scores, exact, averageLength, 1);
+        if (term.length() >= PREFIX_MIN_LENGTH) {
+            for (Map<Long, Float> prefixed : postings.subMap(term, false, term + Character.MAX_VALUE, false).values())
+                accumulate(scores, prefixed, averageLength, PREFIX_FACTOR);
+        }
+        return scores;
+    }
+
+    // Un documento puntúa por la mejor variante del término, no por la suma de todas.
+    private void accumulate(Map<Long, Double> scores, Map<Long, Float> posting, double averageLength,
+            double factor) {
+        double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+        posting.forEach((id, weight) -> {
+            double norm = K1 * (1 - B + B * documents.get(id).length() / averageLength);
+            double score = factor * idf * weight * (K1 + 1) / (weight + norm);
+            scores.merge(id, score, Math::max);
+        });
+    }
+
+    private void add(ProjectDTO project) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, project.title(), TITLE);
+        addField(weights, project.technologies(), TECHNOLOGIES);
+        addField(weights, project.features(), FEATURES);
+        addField(weights, project.description(), TEXT);
+        addField(weights, project.problem(), TEXT);
+        addField(weights, project.learning(), TEXT);
+
+        float length = 0;
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(project.id(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(project.id(), new Document(project, weights, length));
+        totalLength += length;
+    }
+
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null)
+            return;
+        for (String term : document.weights().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty())
+                postings.remove(term);
+        }
+        totalLength -= document.length();
+    }
+
+    private static void addField(Map<String, Float> weights, List<String> values, float weight) {
+        if (values != null)
+            values.forEach(value -> addField(weights, value, weight));
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String token : SearchText.tokens(text))
+            weights.merge(token, weight, Float::sum);
+    }
+}
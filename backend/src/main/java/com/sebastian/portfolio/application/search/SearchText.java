@@ -0,0 +1,36 @@
+package com.sebastian.portfolio.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización común para indexar y consultar: minúsculas, sin tildes,
+ * partido por cualquier carácter que no sea letra o dígito y sin palabras
+ * vacías frecuentes del español y del inglés.
+ */
+final class SearchText {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "para", "por",
+            "que", "se", "su", "un", "una", "y", "and", "for", "of", "the", "to", "with");
+
+    private SearchText() {
+    }
+
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank())
+            return tokens;
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        for (String token : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token))
+                tokens.add(token);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,107 @@
+package com.sebastian.portfolio.application.service;
+
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO.Item;
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO.Status;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Recorre una importación masiva por lotes, cada uno en su propia
+ * transacción: la sesión de Hibernate se mantiene pequeña y un lote
+ * rechazado por la BD no deshace los anteriores.
+ *
+ * La entrada es un iterador para no materializar el cuerpo completo: los
+ * elementos se leen a medida que se escriben.
+ */
+@ApplicationScoped
+public class BulkImporter {
+
+    @ConfigProperty(name = "portfolio.bulk.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    /**
+     * @param validate   mensaje de error del elemento, o {@code null} si es válido
+     * @param id         id de entrada (con id se actualiza, sin id se crea)
+     * @param writeChunk escribe un lote dentro de la transacción y devuelve el id
+     *                   de cada elemento en el mismo orden ({@code null} si el id
+     *                   de entrada no existe)
+     */
+    public <T> BulkImportResultDTO run(Iterator<T> items, Function<T, String> validate, Function<T, Long> id,
+            Function<List<T>, List<Long>> writeChunk) {
+        List<Item> results = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        List<Integer> indexes = new ArrayList<>(chunkSize);
+        int index = 0;
+        while (true) {
+            T item;
+            try {
+                if (!items.hasNext())
+                    break;
+                item = items.next();
+            } catch (RuntimeException e) {
+                // Tras un error de sintaxis no se puede seguir leyendo: lo ya confirmado se queda.
+                results.add(new Item(index, null, Status.FAILED, "JSON inválido: " + message(e)));
+                break;
+            }
+            String error = item == null ? "Elemento vacío" : validate.apply(item);
+            if (error != null) {
+                results.add(new Item(index, item == null ? null : id.apply(item), Status.FAILED, error));
+            } else {
+                chunk.add(item);
+                indexes.add(index);
+                if (chunk.size() == chunkSize)
+                    flush(chunk, indexes, id, writeChunk, results);
+            }
+            index++;
+        }
+        if (!chunk.isEmpty())
+            flush(chunk, indexes, id, writeChunk, results);
+
+        results.sort((a, b) -> Integer.compare(a.index(), b.index()));
+        int created = 0, updated = 0, failed = 0;
+        for (Item result : results) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case FAILED -> failed++;
+            }
+        }
+        return new BulkImportResultDTO(created, updated, failed, results);
+    }
+
+    private <T> void flush(List<T> chunk, List<Integer> indexes, Function<T, Long> id,
+            Function<List<T>, List<Long>> writeChunk, List<Item> results) {
+        try {
+            List<Long> ids = QuarkusTransaction.requiringNew().call(() -> writeChunk.apply(chunk));
+            for (int i = 0; i < chunk.size(); i++) {
+                Long requested = id.apply(chunk.get(i));
+                Long written = ids.get(i);
+                if (written == null)
+                    results.add(new Item(indexes.get(i), requested, Status.FAILED, "No existe"));
+                else
+                    results.add(new Item(indexes.get(i), written,
+                            requested == null ? Status.CREATED : Status.UPDATED, null));
+            }
+        } catch (RuntimeException e) {
+            String error = "Lote rechazado: " + message(e);
+            for (int i = 0; i < chunk.size(); i++)
+                results.add(new Item(indexes.get(i), id.apply(chunk.get(i)), Status.FAILED, error));
+        }
+        chunk.clear();
+        indexes.clear();
+    }
+
+    // El mensaje útil (restricción violada, campo desconocido) suele estar en la causa raíz.
+    private static String message(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root)
+            root = root.getCause();
+        return root.getMessage() == null ? root.getClass().getSimpleName() : root.getMessage();
+    }
+}
@@ -1,57 +1,132 @@
 package com.sebastian.portfolio.application.service;
 
+import com.sebastian.portfolio.application.metrics.Measured;
 import com.sebastian.portfolio.domain.port.in.LearningToolUseCase;
+import com.sebastian.portfolio.domain.port.in.ReactiveLearningToolUseCase;
 import com.sebastian.portfolio.domain.port.out.LearningToolOutputPort;
+import com.sebastian.portfolio.domain.port.out.ReactiveLearningToolOutputPort;
+import com.sebastian.portfolio.application.concurrency.TransactionPermit;
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
 import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
 import com.sebastian.portfolio.application.mapper.LearningToolMapper;
+import com.sebastian.portfolio.application.readmodel.Catalog;
+import com.sebastian.portfolio.application.readmodel.PortfolioReadModel;
 import com.sebastian.portfolio.domain.model.LearningTool;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.transaction.Transactional;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
-public class LearningToolService implements LearningToolUseCase {
+@Measured
+public class LearningToolService implements LearningToolUseCase, ReactiveLearningToolUseCase {
     private final LearningToolOutputPort learningToolRepository;
+    private final ReactiveLearningToolOutputPort reactiveLearningToolRepository;
     private final LearningToolMapper learningToolMapper;
+    private final PortfolioReadModel readModel;
+    private final Event<ContentChangedEvent> contentChanged;
+    private final BulkImporter bulkImporter;
 
-    public LearningToolService(LearningToolOutputPort learningToolRepository, LearningToolMapper learningToolMapper) {
+    public LearningToolService(LearningToolOutputPort learningToolRepository,
+            ReactiveLearningToolOutputPort reactiveLearningToolRepository, LearningToolMapper learningToolMapper,
+            PortfolioReadModel readModel, Event<ContentChangedEvent> contentChanged, BulkImporter bulkImporter) {
         this.learningToolRepository = learningToolRepository;
+        this.reactiveLearningToolRepository = reactiveLearningToolRepository;
         this.learningToolMapper = learningToolMapper;
+        this.readModel = readModel;
+        this.contentChanged = contentChanged;
+        this.bulkImporter = bulkImporter;
     }
 
     @Override
     public List<LearningToolDTO> getAllTools() {
-        return learningToolRepository.findAll().stream()
-                .map(learningToolMapper::toDTO)
-                .collect(Collectors.toList());
+        return readModel.learningTools(this::loadTools).items();
     }
 
     @Override
     public LearningToolDTO getToolById(Long id) {
-        return learningToolRepository.findById(id)
-                .map(learningToolMapper::toDTO)
-                .orElseThrow(() -> new RuntimeException("Tool not found"));
+        Optional<LearningToolDTO> tool = readModel.isEnabled()
+                ? readModel.learningTools(this::loadTools).find(id)
+                : learningToolRepository.findById(id).map(learningToolMapper::toDTO);
+        return tool.orElseThrow(() -> new RuntimeException("Tool not found"));
+    }
+
+    @Override
+    public Uni<List<LearningToolDTO>> getAllToolsAsync() {
+        return readModel.learningToolsAsync(this::loadToolsAsync).map(Catalog::items);
+    }
+
+    @Override
+    public Uni<LearningToolDTO> getToolByIdAsync(Long id) {
+        Uni<Optional<LearningToolDTO>> tool = readModel.isEnabled()
+                ? readModel.learningToolsAsync(this::loadToolsAsync).map(catalog -> catalog.find(id))
+                : reactiveLearningToolRepository.findById(id).map(found -> found.map(learningToolMapper::toDTO));
+        return tool.map(found -> found.orElseThrow(() -> new RuntimeException("Tool not found")));
     }
 
     @Override
     @Transactional
+    @TransactionPermit
     public LearningToolDTO createTool(LearningToolDTO toolDTO) {
         LearningTool tool = learningToolMapper.toDomain(toolDTO);
-        return learningToolMapper.toDTO(learningToolRepository.save(tool));
+        LearningToolDTO created = learningToolMapper.toDTO(learningToolRepository.save(tool));
+        contentChanged.fire(new ContentChangedEvent(ContentSection.LEARNING_TOOLS, created.id(), created));
+        return created;
     }
 
     @Override
     @Transactional
+    @TransactionPermit
     public LearningToolDTO updateTool(Long id, LearningToolDTO toolDTO) {
         LearningTool tool = learningToolMapper.toDomain(toolDTO);
         tool.setId(id);
-        return learningToolMapper.toDTO(learningToolRepository.update(tool));
+        LearningToolDTO updated = learningToolMapper.toDTO(learningToolRepository.update(tool));
+        if (updated != null)
+            contentChanged.fire(new ContentChangedEvent(ContentSection.LEARNING_TOOLS, id, updated));
+        return updated;
     }
 
     @Override
     @Transactional
+    @TransactionPermit
     public void deleteTool(Long id) {
-        learningToolRepository.deleteById(id);
+        if (learningToolRepository.deleteById(id))
+            contentChanged.fire(new ContentChangedEvent(ContentSection.LEARNING_TOOLS, id, null));
+    }
+
+    /**
+     * Por lotes transaccionales (ver {@link BulkImporter}) y un único evento
+     * masivo al terminar.
+     */
+    @Override
+    public BulkImportResultDTO importTools(Iterator<LearningToolDTO> tools) {
+        BulkImportResultDTO result = bulkImporter.run(tools,
+                dto -> dto.name() == null || dto.name().isBlank() ? "name es obligatorio" : null,
+                LearningToolDTO::id,
+                chunk -> learningToolRepository.saveAll(chunk.stream().map(learningToolMapper::toDomain).toList())
+                        .stream()
+                        .map(saved -> saved == null ? null : saved.getId())
+                        .toList());
+        if (result.created() + result.updated() > 0)
+            contentChanged.fire(ContentChangedEvent.bulk(ContentSection.LEARNING_TOOLS));
+        return result;
+    }
+
+    private Uni<List<LearningToolDTO>> loadToolsAsync() {
+        return reactiveLearningToolRepository.findAll().map(tools -> tools.stream()
+                .map(learningToolMapper::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    private List<LearningToolDTO> loadTools() {
+        return learningToolRepository.findAll().stream()
+                .map(learningToolMapper::toDTO)
+                .collect(Collectors.toList());
     }
 }
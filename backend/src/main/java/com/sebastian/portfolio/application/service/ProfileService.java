@@ -0,0 +1,84 @@
+package com.sebastian.portfolio.application.service;
+
+import com.sebastian.portfolio.application.concurrency.TransactionPermit;
+import com.sebastian.portfolio.application.dto.ProfileDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.application.readmodel.PortfolioReadModel;
+import com.sebastian.portfolio.infrastructure.persistence.entity.ProfileEntity;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.transaction.Transactional;
+
+/**
+ * Lectura y actualización del perfil (fila única con id 1). Lo usan
+ * /profile y el arranque agregado de /portfolio.
+ */
+@ApplicationScoped
+public class ProfileService {
+
+    // Datos originales exactos de constants.tsx
+    private static final ProfileDTO DEFAULT_PROFILE = new ProfileDTO(
+            1L,
+            "SEBASTIAN MARRIAGA",
+            "BACKEND DEVELOPER JUNIOR",
+            "CÓDIGO SÓLIDO, INTERFACES FUNCIONALES, RESULTADOS REALES",
+            "Barranquilla, Colombia (Remoto / Híbrido)",
+            "ACTUALMENTE: APRENDIENDO QUARKUS",
+            "PERFIL_HÍBRIDO",
+            "Soy un Backend Developer Junior con una visión integral del desarrollo web. Mi fortaleza reside en la lógica del servidor, bases de datos y APIs, complementada con habilidades en Frontend (Angular/HTML/CSS).\n\nEsta versatilidad me permite construir soluciones completas, desde el \"motor\" hasta la interfaz, garantizando una comunicación fluida entre capas. Me defino por mi constancia, mentalidad de ingeniero y compromiso con la calidad.",
+            "Inglés Técnico (Básico/Pre-Intermedio) - Lectura y escritura técnica.",
+            "Quarkus",
+            "https://avatars.githubusercontent.com/u/211703811?s=400&u=e09c4e6ffe4a2964a5092000a06af0ae8da045d8&v=4");
+
+    private final PortfolioReadModel readModel;
+    private final Event<ContentChangedEvent> contentChanged;
+
+    public ProfileService(PortfolioReadModel readModel, Event<ContentChangedEvent> contentChanged) {
+        this.readModel = readModel;
+        this.contentChanged = contentChanged;
+    }
+
+    /**
+     * Perfil desde el modelo de lectura. Si no existe en BD, devuelve los datos
+     * originales de constants.tsx. Bloquea si hay que ir a la BD.
+     */
+    public ProfileDTO getProfile() {
+        return readModel.profile(this::load);
+    }
+
+    @Transactional
+    @TransactionPermit
+    public ProfileDTO updateProfile(ProfileDTO dto) {
+        ProfileEntity entity = ProfileEntity.findById(1L);
+        if (entity == null) {
+            entity = new ProfileEntity();
+            entity.id = 1L;
+        }
+        entity.name = dto.name();
+        entity.role = dto.role();
+        entity.manifesto = dto.manifesto();
+        entity.location = dto.location();
+        entity.status = dto.status();
+        entity.aboutTitle = dto.aboutTitle();
+        entity.aboutDescription = dto.aboutDescription();
+        entity.englishLevel = dto.englishLevel();
+        entity.currentlyLearning = dto.currentlyLearning();
+        entity.profileImage = dto.profileImage();
+
+        entity.persist();
+        ProfileDTO updated = map(entity);
+        contentChanged.fire(new ContentChangedEvent(ContentSection.PROFILE, updated.id(), updated));
+        return updated;
+    }
+
+    private ProfileDTO load() {
+        ProfileEntity profile = ProfileEntity.findById(1L);
+        return profile == null ? DEFAULT_PROFILE : map(profile);
+    }
+
+    private ProfileDTO map(ProfileEntity e) {
+        return new ProfileDTO(e.id, e.name, e.role, e.manifesto, e.location, e.status,
+                e.aboutTitle, e.aboutDescription, e.englishLevel, e.currentlyLearning, e.profileImage);
+    }
+}
@@ -1,13 +1,30 @@
 package com.sebastian.portfolio.application.service;
 
+import com.sebastian.portfolio.application.metrics.Measured;
 import com.sebastian.portfolio.domain.port.in.ProjectUseCase;
+import com.sebastian.portfolio.domain.port.in.ReactiveProjectUseCase;
 import com.sebastian.portfolio.domain.port.out.ProjectOutputPort;
+import com.sebastian.portfolio.domain.port.out.ReactiveProjectOutputPort;
+import com.sebastian.portfolio.application.concurrency.TransactionPermit;
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
 import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.dto.ProjectPageDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
 import com.sebastian.portfolio.application.mapper.ProjectMapper;
+import com.sebastian.portfolio.application.readmodel.Catalog;
+import com.sebastian.portfolio.application.readmodel.PortfolioReadModel;
+import com.sebastian.portfolio.application.search.ProjectSearchIndex;
 import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import com.sebastian.portfolio.domain.model.ProjectPage;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.transaction.Transactional;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -16,23 +33,47 @@ import java.util.stream.Collectors;
  * (Repository).
  */
 @ApplicationScoped
-public class ProjectService implements ProjectUseCase {
+@Measured
+public class ProjectService implements ProjectUseCase, ReactiveProjectUseCase {
     private final ProjectOutputPort projectRepository;
+    private final ReactiveProjectOutputPort reactiveProjectRepository;
     private final ProjectMapper projectMapper;
+    private final PortfolioReadModel readModel;
+    private final ProjectSearchIndex searchIndex;
+    private final Event<ContentChangedEvent> contentChanged;
+    private final BulkImporter bulkImporter;
 
-    public ProjectService(ProjectOutputPort projectRepository, ProjectMapper projectMapper) {
+    public ProjectService(ProjectOutputPort projectRepository, ReactiveProjectOutputPort reactiveProjectRepository,
+            ProjectMapper projectMapper, PortfolioReadModel readModel, ProjectSearchIndex searchIndex,
+            Event<ContentChangedEvent> contentChanged, BulkImporter bulkImporter) {
         this.projectRepository = projectRepository;
+        this.reactiveProjectRepository = reactiveProjectRepository;
         this.projectMapper = projectMapper;
+        this.readModel = readModel;
+        this.searchIndex = searchIndex;
+        this.contentChanged = contentChanged;
+        this.bulkImporter = bulkImporter;
     }
 
     /**
-     * Recupera todos los proyectos persistidos.
+     * Recupera todos los proyectos persistidos (desde el modelo de lectura si
+     * está habilitado).
      */
     @Override
     public List<ProjectDTO> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(projectMapper::toDTO)
-                .collect(Collectors.toList());
+        return readModel.projects(this::loadProjects).items();
+    }
+
+    /**
+     * Recupera una página de proyectos filtrada en la base de datos. No pasa por
+     * el modelo de lectura: el coste depende del tamaño de página, no del catálogo.
+     */
+    @Override
+    public ProjectPageDTO getProjectPage(ProjectCriteria criteria) {
+        ProjectPage page = projectRepository.findPage(criteria);
+        return new ProjectPageDTO(
+                page.items().stream().map(projectMapper::toDTO).collect(Collectors.toList()),
+                page.nextCursor());
     }
 
     /**
@@ -40,9 +81,39 @@ public class ProjectService implements ProjectUseCase {
      */
     @Override
     public ProjectDTO getProjectById(Long id) {
-        return projectRepository.findById(id)
-                .map(projectMapper::toDTO)
-                .orElseThrow(() -> new RuntimeException("Proyecto no encontrado"));
+        Optional<ProjectDTO> project = readModel.isEnabled()
+                ? readModel.projects(this::loadProjects).find(id)
+                : projectRepository.findById(id).map(projectMapper::toDTO);
+        return project.orElseThrow(() -> new RuntimeException("Proyecto no encontrado"));
+    }
+
+    /**
+     * Búsqueda de texto sobre el índice en memoria; no consulta la base de
+     * datos. El índice se actualiza con el evento que disparan las escrituras.
+     */
+    @Override
+    public List<ProjectDTO> searchProjects(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    @Override
+    public Uni<List<ProjectDTO>> getAllProjectsAsync() {
+        return readModel.projectsAsync(this::loadProjectsAsync).map(Catalog::items);
+    }
+
+    @Override
+    public Uni<ProjectPageDTO> getProjectPageAsync(ProjectCriteria criteria) {
+        return reactiveProjectRepository.findPage(criteria).map(page -> new ProjectPageDTO(
+                page.items().stream().map(projectMapper::toDTO).collect(Collectors.toList()),
+                page.nextCursor()));
+    }
+
+    @Override
+    public Uni<ProjectDTO> getProjectByIdAsync(Long id) {
+        Uni<Optional<ProjectDTO>> project = readModel.isEnabled()
+                ? readModel.projectsAsync(this::loadProjectsAsync).map(catalog -> catalog.find(id))
+                : reactiveProjectRepository.findById(id).map(found -> found.map(projectMapper::toDTO));
+        return project.map(found -> found.orElseThrow(() -> new RuntimeException("Proyecto no encontrado")));
     }
 
     /**
@@ -50,9 +121,12 @@ public class ProjectService implements ProjectUseCase {
      */
     @Override
     @Transactional
+    @TransactionPermit
     public ProjectDTO createProject(ProjectDTO projectDTO) {
         Project project = projectMapper.toDomain(projectDTO);
-        return projectMapper.toDTO(projectRepository.save(project));
+        ProjectDTO created = projectMapper.toDTO(projectRepository.save(project));
+        contentChanged.fire(new ContentChangedEvent(ContentSection.PROJECTS, created.id(), created));
+        return created;
     }
 
     /**
@@ -60,10 +134,14 @@ public class ProjectService implements ProjectUseCase {
      */
     @Override
     @Transactional
+    @TransactionPermit
     public ProjectDTO updateProject(Long id, ProjectDTO projectDTO) {
         Project project = projectMapper.toDomain(projectDTO);
         project.setId(id);
-        return projectMapper.toDTO(projectRepository.update(project));
+        ProjectDTO updated = projectMapper.toDTO(projectRepository.update(project));
+        if (updated != null)
+            contentChanged.fire(new ContentChangedEvent(ContentSection.PROJECTS, id, updated));
+        return updated;
     }
 
     /**
@@ -71,7 +149,41 @@ public class ProjectService implements ProjectUseCase {
      */
     @Override
     @Transactional
+    @TransactionPermit
     public void deleteProject(Long id) {
-        projectRepository.deleteById(id);
+        if (projectRepository.deleteById(id))
+            contentChanged.fire(new ContentChangedEvent(ContentSection.PROJECTS, id, null));
+    }
+
+    /**
+     * Cada lote va en su propia transacción (ver {@link BulkImporter}). Al
+     * terminar se dispara un solo evento masivo, fuera de transacción, así que
+     * el modelo de lectura y el índice recargan la sección una vez y no por
+     * cada proyecto.
+     */
+    @Override
+    public BulkImportResultDTO importProjects(Iterator<ProjectDTO> projects) {
+        BulkImportResultDTO result = bulkImporter.run(projects,
+                dto -> dto.title() == null || dto.title().isBlank() ? "title es obligatorio" : null,
+                ProjectDTO::id,
+                chunk -> projectRepository.saveAll(chunk.stream().map(projectMapper::toDomain).toList())
+                        .stream()
+                        .map(saved -> saved == null ? null : saved.getId())
+                        .toList());
+        if (result.created() + result.updated() > 0)
+            contentChanged.fire(ContentChangedEvent.bulk(ContentSection.PROJECTS));
+        return result;
+    }
+
+    private Uni<List<ProjectDTO>> loadProjectsAsync() {
+        return reactiveProjectRepository.findAll().map(projects -> projects.stream()
+                .map(projectMapper::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    private List<ProjectDTO> loadProjects() {
+        return projectRepository.findAll().stream()
+                .map(projectMapper::toDTO)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,12 @@
+package com.sebastian.portfolio.domain.model;
+
+/**
+ * Criterios de consulta paginada de proyectos (paginación por clave).
+ *
+ * @param limit        número máximo de proyectos a devolver
+ * @param after        id del último proyecto de la página anterior, o null
+ * @param architecture filtro exacto por arquitectura, o null
+ * @param technology   filtro exacto por tecnología, o null
+ */
+public record ProjectCriteria(int limit, Long after, String architecture, String technology) {
+}
@@ -0,0 +1,13 @@
+package com.sebastian.portfolio.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de proyectos ordenada por id.
+ *
+ * @param items      proyectos de la página
+ * @param nextCursor valor de {@code after} para pedir la siguiente página, o
+ *                   null si no hay más
+ */
+public record ProjectPage(List<Project> items, Long nextCursor) {
+}
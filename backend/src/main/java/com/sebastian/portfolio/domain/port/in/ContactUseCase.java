@@ -1,10 +1,14 @@
 package com.sebastian.portfolio.domain.port.in;
 
 import com.sebastian.portfolio.application.dto.ContactDTO;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ContactUseCase {
     ContactDTO sendMessage(ContactDTO contactDTO);
 
     List<ContactDTO> getAllMessages();
+
+    void exportMessages(LocalDateTime from, LocalDateTime to, Consumer<ContactDTO> sink);
 }
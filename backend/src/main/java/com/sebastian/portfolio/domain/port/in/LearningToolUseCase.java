@@ -1,6 +1,8 @@
 package com.sebastian.portfolio.domain.port.in;
 
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
 import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import java.util.Iterator;
 import java.util.List;
 
 public interface LearningToolUseCase {
@@ -13,4 +15,10 @@ public interface LearningToolUseCase {
     LearningToolDTO updateTool(Long id, LearningToolDTO toolDTO);
 
     void deleteTool(Long id);
+
+    /**
+     * Crea (sin id) o actualiza (con id) todas las herramientas, confirmando
+     * por lotes, y devuelve el resultado de cada una.
+     */
+    BulkImportResultDTO importTools(Iterator<LearningToolDTO> tools);
 }
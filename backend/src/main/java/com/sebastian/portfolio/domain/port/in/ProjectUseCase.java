@@ -1,16 +1,30 @@
 package com.sebastian.portfolio.domain.port.in;
 
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
 import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.dto.ProjectPageDTO;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import java.util.Iterator;
 import java.util.List;
 
 public interface ProjectUseCase {
     List<ProjectDTO> getAllProjects();
 
+    ProjectPageDTO getProjectPage(ProjectCriteria criteria);
+
     ProjectDTO getProjectById(Long id);
 
+    List<ProjectDTO> searchProjects(String query, int limit);
+
     ProjectDTO createProject(ProjectDTO projectDTO);
 
     ProjectDTO updateProject(Long id, ProjectDTO projectDTO);
 
     void deleteProject(Long id);
+
+    /**
+     * Crea (sin id) o actualiza (con id) todos los proyectos, confirmando por
+     * lotes, y devuelve el resultado de cada uno.
+     */
+    BulkImportResultDTO importProjects(Iterator<ProjectDTO> projects);
 }
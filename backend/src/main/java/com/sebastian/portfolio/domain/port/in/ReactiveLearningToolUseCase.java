@@ -0,0 +1,14 @@
+package com.sebastian.portfolio.domain.port.in;
+
+import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+
+/**
+ * Lecturas de herramientas de aprendizaje sin bloquear el hilo que llama.
+ */
+public interface ReactiveLearningToolUseCase {
+    Uni<List<LearningToolDTO>> getAllToolsAsync();
+
+    Uni<LearningToolDTO> getToolByIdAsync(Long id);
+}
@@ -0,0 +1,18 @@
+package com.sebastian.portfolio.domain.port.in;
+
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.dto.ProjectPageDTO;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+
+/**
+ * Lecturas de proyectos sin bloquear el hilo que llama.
+ */
+public interface ReactiveProjectUseCase {
+    Uni<List<ProjectDTO>> getAllProjectsAsync();
+
+    Uni<ProjectPageDTO> getProjectPageAsync(ProjectCriteria criteria);
+
+    Uni<ProjectDTO> getProjectByIdAsync(Long id);
+}
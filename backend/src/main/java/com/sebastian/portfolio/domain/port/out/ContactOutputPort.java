@@ -1,10 +1,19 @@
 package com.sebastian.portfolio.domain.port.out;
 
 import com.sebastian.portfolio.domain.model.ContactMessage;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ContactOutputPort {
     ContactMessage save(ContactMessage message);
 
     List<ContactMessage> findAll();
+
+    /**
+     * Recorre los mensajes con createdAt en [from, to) ordenados por fecha,
+     * entregándolos uno a uno sin materializar la colección. Los límites nulos
+     * no filtran. Requiere una transacción activa (cursor del lado servidor).
+     */
+    void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<ContactMessage> consumer);
 }
@@ -13,5 +13,13 @@ public interface LearningToolOutputPort {
 
     LearningTool update(LearningTool tool);
 
-    void deleteById(Long id);
+    /**
+     * Inserta las herramientas sin id y actualiza las que lo tienen, en la
+     * transacción en curso. Devuelve el resultado en el mismo orden, con
+     * {@code null} donde el id no existe.
+     */
+    List<LearningTool> saveAll(List<LearningTool> tools);
+
+    /** Devuelve {@code false} si el id no existe. */
+    boolean deleteById(Long id);
 }
@@ -0,0 +1,10 @@
+package com.sebastian.portfolio.domain.port.out;
+
+/**
+ * Puerto de salida para encolar notificaciones. Debe invocarse dentro de la
+ * transacción que produce el cambio notificado para que ambos se confirmen
+ * (o se descarten) juntos.
+ */
+public interface NotificationOutboxPort {
+    void enqueue(String payload);
+}
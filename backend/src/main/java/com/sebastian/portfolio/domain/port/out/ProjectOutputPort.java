@@ -1,17 +1,29 @@
 package com.sebastian.portfolio.domain.port.out;
 
 import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import com.sebastian.portfolio.domain.model.ProjectPage;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectOutputPort {
     List<Project> findAll();
 
+    ProjectPage findPage(ProjectCriteria criteria);
+
     Optional<Project> findById(Long id);
 
     Project save(Project project);
 
     Project update(Project project);
 
-    void deleteById(Long id);
+    /**
+     * Inserta los proyectos sin id y actualiza los que lo tienen, en la
+     * transacción en curso. Devuelve el resultado en el mismo orden, con
+     * {@code null} donde el id no existe.
+     */
+    List<Project> saveAll(List<Project> projects);
+
+    /** Devuelve {@code false} si el id no existe. */
+    boolean deleteById(Long id);
 }
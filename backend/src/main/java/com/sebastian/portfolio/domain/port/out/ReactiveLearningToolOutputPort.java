@@ -0,0 +1,15 @@
+package com.sebastian.portfolio.domain.port.out;
+
+import com.sebastian.portfolio.domain.model.LearningTool;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Variante asíncrona de las lecturas de {@link LearningToolOutputPort}.
+ */
+public interface ReactiveLearningToolOutputPort {
+    Uni<List<LearningTool>> findAll();
+
+    Uni<Optional<LearningTool>> findById(Long id);
+}
@@ -0,0 +1,20 @@
+package com.sebastian.portfolio.domain.port.out;
+
+import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import com.sebastian.portfolio.domain.model.ProjectPage;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Variante asíncrona de las lecturas de {@link ProjectOutputPort}. Las
+ * escrituras siguen siendo síncronas y transaccionales.
+ */
+public interface ReactiveProjectOutputPort {
+    Uni<List<Project>> findAll();
+
+    Uni<ProjectPage> findPage(ProjectCriteria criteria);
+
+    Uni<Optional<Project>> findById(Long id);
+}
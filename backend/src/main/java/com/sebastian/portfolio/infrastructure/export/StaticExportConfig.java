@@ -0,0 +1,30 @@
+package com.sebastian.portfolio.infrastructure.export;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Exportación de las respuestas públicas como ficheros JSON estáticos.
+ */
+@ConfigMapping(prefix = "portfolio.static-export")
+public interface StaticExportConfig {
+
+    /** Regenera los ficheros tras cada escritura confirmada. */
+    @WithDefault("false")
+    boolean enabled();
+
+    @WithDefault("target/static-api")
+    String directory();
+
+    @WithDefault("none")
+    OnStart onStart();
+
+    enum OnStart {
+        /** Solo exporta tras escrituras o a petición del admin. */
+        NONE,
+        /** Exportación completa al arrancar. */
+        EXPORT,
+        /** Exportación completa y salida del proceso (build de Maven). */
+        EXPORT_AND_EXIT
+    }
+}
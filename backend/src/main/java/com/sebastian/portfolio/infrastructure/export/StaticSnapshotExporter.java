@@ -0,0 +1,304 @@
+package com.sebastian.portfolio.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.application.dto.PortfolioDTO;
+import com.sebastian.portfolio.application.dto.ProfileDTO;
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.service.ProfileService;
+import com.sebastian.portfolio.domain.port.in.LearningToolUseCase;
+import com.sebastian.portfolio.domain.port.in.ProjectUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.Quarkus;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.interceptor.Interceptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jboss.logging.Logger;
+
+/**
+ * Exporta las respuestas públicas ({@code /profile}, {@code /projects},
+ * {@code /projects/{id}}, {@code /learning-tools} y {@code /portfolio}) como
+ * ficheros JSON estáticos para servirlos desde un CDN.
+ *
+ * Cada fichero lleva en el nombre un hash de su contenido
+ * ({@code projects.3f9a….json}), así que puede cachearse como inmutable;
+ * {@code manifest.json} indica qué fichero corresponde a cada ruta y es lo
+ * único que hay que revalidar. Con {@code portfolio.static-export.enabled}
+ * cada escritura confirmada regenera solo lo que cambió.
+ *
+ * {@link #revision()} es el hash de {@code /portfolio} con el contenido
+ * actual: el frontend lo compara con el del manifiesto para no servir una
+ * exportación anterior a los últimos cambios.
+ */
+@ApplicationScoped
+public class StaticSnapshotExporter {
+    public static final String MANIFEST = "manifest.json";
+    private static final Logger LOG = Logger.getLogger(StaticSnapshotExporter.class);
+    private static final Pattern HASHED = Pattern.compile(".+\\.[0-9a-f]{16}\\.json");
+
+    private record Snapshot(ProfileDTO profile, List<ProjectDTO> projects, List<LearningToolDTO> learningTools) {
+    }
+
+    private final ProjectUseCase projectService;
+    private final LearningToolUseCase learningToolService;
+    private final ProfileService profileService;
+    private final ObjectMapper objectMapper;
+    private final StaticExportConfig config;
+    private final MeterRegistry registry;
+    private final Path directory;
+    // Un solo hilo: las exportaciones incrementales se aplican en el orden de las escrituras.
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "static-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Ruta pública -> fichero publicado; null hasta la primera exportación completa.
+    private Map<String, String> manifest;
+    // Revisión del contenido actual; null tras cada escritura hasta que se pide.
+    private volatile String revision;
+    private final AtomicLong changes = new AtomicLong();
+
+    public StaticSnapshotExporter(ProjectUseCase projectService, LearningToolUseCase learningToolService,
+            ProfileService profileService, ObjectMapper objectMapper, StaticExportConfig config,
+            MeterRegistry registry) {
+        this.projectService = projectService;
+        this.learningToolService = learningToolService;
+        this.profileService = profileService;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.registry = registry;
+        this.directory = Path.of(config.directory()).toAbsolutePath();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        switch (config.onStart()) {
+            case NONE -> {
+            }
+            case EXPORT -> executor.execute(() -> {
+                try {
+                    exportAll();
+                } catch (RuntimeException e) {
+                    LOG.warn("No se pudo exportar la API estática al arrancar: " + e.getMessage());
+                }
+            });
+            case EXPORT_AND_EXIT -> {
+                int exitCode = 0;
+                try {
+                    Map<String, String> files = exportAll();
+                    LOG.info("API estática exportada en " + directory + " (" + files.size() + " rutas)");
+                } catch (RuntimeException e) {
+                    LOG.error("No se pudo exportar la API estática: " + e.getMessage());
+                    exitCode = 1;
+                }
+                Quarkus.asyncExit(exitCode);
+            }
+        }
+    }
+
+    // Prioridad baja: se ejecuta después de que el modelo de lectura aplique la escritura.
+    void onContentChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+            @Priority(Interceptor.Priority.APPLICATION + 1000) ContentChangedEvent event) {
+        changes.incrementAndGet();
+        revision = null;
+        if (!config.enabled())
+            return;
+        try {
+            executor.execute(() -> {
+                try {
+                    exportChange(event);
+                } catch (RuntimeException e) {
+                    LOG.warn("No se pudo actualizar la API estática: " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Apagándose: la siguiente exportación completa lo recoge.
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reescribe todas las rutas y borra los ficheros que ya no aparecen en el
+     * manifiesto (también tras cada exportación incremental).
+     *
+     * @return ruta pública -> fichero, relativo al directorio de exportación
+     */
+    public synchronized Map<String, String> exportAll() {
+        return timed("full", () -> {
+            Snapshot snapshot = load();
+            Map<String, String> next = new TreeMap<>();
+            write(next, "/profile", snapshot.profile());
+            write(next, "/projects", snapshot.projects());
+            for (ProjectDTO project : snapshot.projects())
+                write(next, "/projects/" + project.id(), project);
+            write(next, "/learning-tools", snapshot.learningTools());
+            write(next, "/portfolio", portfolio(snapshot));
+            publish(next);
+            prune(Set.copyOf(next.values()));
+            return next;
+        });
+    }
+
+    private synchronized void exportChange(ContentChangedEvent event) {
+        if (manifest == null || event.bulk()) {
+            exportAll();
+            return;
+        }
+        timed("incremental", () -> {
+            Snapshot snapshot = load();
+            Map<String, String> next = new TreeMap<>(manifest);
+            switch (event.section()) {
+                case PROFILE -> write(next, "/profile", snapshot.profile());
+                case LEARNING_TOOLS -> write(next, "/learning-tools", snapshot.learningTools());
+                case PROJECTS -> {
+                    write(next, "/projects", snapshot.projects());
+                    if (event.deleted())
+                        next.remove("/projects/" + event.id());
+                    else
+                        write(next, "/projects/" + event.id(), event.value());
+                }
+            }
+            write(next, "/portfolio", portfolio(snapshot));
+            publish(next);
+            prune(Set.copyOf(next.values()));
+            return next;
+        });
+    }
+
+    /**
+     * Hash del JSON de {@code /portfolio} con el contenido actual. Coincide con
+     * el de {@code portfolio.<hash>.json} en cualquier exportación hecha con
+     * los mismos datos, aunque la hiciera otro proceso.
+     */
+    public String revision() {
+        String current = revision;
+        if (current != null)
+            return current;
+        long seen = changes.get();
+        String computed = hash(serialize(portfolio(load())));
+        // Si hubo una escritura mientras se cargaba, se devuelve pero no se guarda.
+        if (changes.get() == seen)
+            revision = computed;
+        return computed;
+    }
+
+    // Sale del modelo de lectura; si está deshabilitado, va a la BD en su propia transacción.
+    private Snapshot load() {
+        return QuarkusTransaction.requiringNew().call(() -> new Snapshot(
+                profileService.getProfile(),
+                projectService.getAllProjects(),
+                learningToolService.getAllTools()));
+    }
+
+    private static PortfolioDTO portfolio(Snapshot snapshot) {
+        return new PortfolioDTO(snapshot.profile(), snapshot.projects(), snapshot.learningTools());
+    }
+
+    // El nombre depende del contenido: si ya existe, no hace falta reescribirlo.
+    private void write(Map<String, String> files, String route, Object body) {
+        byte[] json = serialize(body);
+        String file = route.substring(1) + "." + hash(json) + ".json";
+        Path target = directory.resolve(file);
+        if (!Files.exists(target))
+            writeAtomically(target, json);
+        files.put(route, file);
+    }
+
+    // El manifiesto se escribe al final: nunca apunta a un fichero a medio escribir.
+    private void publish(Map<String, String> files) {
+        writeAtomically(directory.resolve(MANIFEST), serialize(files));
+        manifest = files;
+    }
+
+    private void prune(Set<String> published) {
+        if (!Files.isDirectory(directory))
+            return;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String file = directory.relativize(path).toString().replace('\\', '/');
+                if (HASHED.matcher(file).matches() && !published.contains(file))
+                    Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] content) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), ".export", ".tmp");
+            Files.write(temporary, content);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la exportación", e);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T timed(String scope, Supplier<T> export) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return export.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("portfolio.static.export")
+                    .tag("scope", scope)
+                    .tag("outcome", outcome)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.sebastian.portfolio.infrastructure.image;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Caché LRU en disco, acotada en bytes, para originales y variantes de
+ * imágenes. El orden de uso vive en memoria; al arrancar se reconstruye con
+ * la fecha de modificación de los ficheros, así que sobrevive a reinicios.
+ */
+@ApplicationScoped
+public class ImageCache {
+    private final Path directory;
+    private final long maxBytes;
+    private final MeterRegistry registry;
+
+    // Nombre de fichero -> tamaño, en orden de acceso (el primero es el menos usado).
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    public ImageCache(ImageProxyConfig config, MeterRegistry registry) {
+        this.directory = Path.of(config.cacheDirectory()).toAbsolutePath();
+        this.maxBytes = config.maxCacheSize().asLongValue();
+        this.registry = registry;
+    }
+
+    @PostConstruct
+    void load() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(Files::isRegularFile)
+                        .filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                        .sorted(Comparator.comparing(ImageCache::lastModified))
+                        .collect(Collectors.toList());
+            }
+            synchronized (this) {
+                for (Path file : files) {
+                    long size = Files.size(file);
+                    entries.put(file.getFileName().toString(), size);
+                    totalBytes += size;
+                }
+                evict();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Gauge.builder("portfolio.images.cache.bytes", this, ImageCache::size).register(registry);
+    }
+
+    /** Fichero cacheado con ese nombre, marcado como usado recientemente. */
+    public synchronized Optional<Path> get(String name) {
+        if (entries.get(name) == null)
+            return Optional.empty();
+        Path file = directory.resolve(name);
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Borrado por fuera: se olvida la entrada y se regenera.
+            totalBytes -= entries.remove(name);
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    /**
+     * Guarda el contenido (escritura atómica) y desaloja lo menos usado si se
+     * supera el tamaño máximo. La entrada recién escrita nunca se desaloja.
+     */
+    public Path put(String name, byte[] content) {
+        Path target = directory.resolve(name);
+        try {
+            Path temporary = Files.createTempFile(directory, name, ".tmp");
+            Files.write(temporary, content);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (this) {
+            Long previous = entries.put(name, (long) content.length);
+            totalBytes += content.length - (previous == null ? 0 : previous);
+            evict();
+        }
+        return target;
+    }
+
+    synchronized long size() {
+        return totalBytes;
+    }
+
+    // Un fichero que se está enviando sigue siendo legible tras borrarlo (el descriptor ya está abierto).
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && entries.size() > 1 && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            try {
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException e) {
+                continue;
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
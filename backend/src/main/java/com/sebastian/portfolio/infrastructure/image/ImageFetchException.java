@@ -0,0 +1,16 @@
+package com.sebastian.portfolio.infrastructure.image;
+
+/**
+ * El origen de una imagen no respondió, devolvió un error o no es una imagen
+ * que se pueda decodificar.
+ */
+public class ImageFetchException extends RuntimeException {
+
+    public ImageFetchException(String message) {
+        super(message);
+    }
+
+    public ImageFetchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
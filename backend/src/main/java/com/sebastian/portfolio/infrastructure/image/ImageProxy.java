@@ -0,0 +1,272 @@
+package com.sebastian.portfolio.infrastructure.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Variantes redimensionadas de las imágenes externas del portafolio.
+ *
+ * El original se descarga una sola vez y queda en {@link ImageCache} junto a
+ * sus variantes (JPEG, o PNG si tiene transparencia). Peticiones simultáneas
+ * de la misma variante comparten una única generación. Es bloqueante: se
+ * llama desde un hilo virtual o un worker.
+ *
+ * Las redirecciones del origen no se siguen (su destino no está en
+ * {@link ImageSources}) y las dimensiones se leen de la cabecera antes de
+ * decodificar, para rechazar imágenes con demasiados píxeles.
+ */
+@ApplicationScoped
+public class ImageProxy {
+
+    /** Fichero listo para enviar y su tipo MIME. */
+    public record Variant(Path file, String contentType) {
+    }
+
+    // Fallo reciente de un origen; hasta {@code until} (nanoTime) no se reintenta.
+    private record Failure(String message, long until) {
+    }
+
+    private final ImageSources sources;
+    private final ImageCache cache;
+    private final ImageProxyConfig config;
+    private final List<Integer> widths;
+    private final HttpClient client;
+    private final Map<String, CompletableFuture<Variant>> inFlight = new ConcurrentHashMap<>();
+    // Acotado por la lista de permitidas: como mucho una entrada por imagen publicada.
+    private final Map<String, Failure> failures = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ImageProxy(ImageSources sources, ImageCache cache, ImageProxyConfig config, MeterRegistry registry) {
+        this.sources = sources;
+        this.cache = cache;
+        this.config = config;
+        this.widths = config.widths().stream().sorted().toList();
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(config.fetchTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.hits = Counter.builder("portfolio.images.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("portfolio.images.requests").tag("result", "miss").register(registry);
+    }
+
+    /**
+     * Variante de {@code hash} con el ancho configurado más cercano por arriba
+     * a {@code width} (nunca se amplía el original).
+     *
+     * @return vacío si el hash no corresponde a ninguna imagen publicada
+     * @throws ImageFetchException si el origen falla o no es una imagen que se
+     *                             pueda decodificar; el fallo se recuerda
+     *                             durante {@code failure-ttl}
+     */
+    public Optional<Variant> variant(String hash, int width) {
+        int target = widths.stream().filter(w -> w >= width).findFirst().orElse(widths.get(widths.size() - 1));
+        String key = hash + "-" + target;
+        // Primero la lista de permitidas: una imagen que dejó de publicarse no se
+        // sirve aunque siga en la caché.
+        Optional<URI> source = sources.resolve(hash);
+        if (source.isEmpty())
+            return Optional.empty();
+        Optional<Variant> cached = cached(key);
+        if (cached.isPresent()) {
+            hits.increment();
+            return cached;
+        }
+        Failure failure = failures.get(hash);
+        if (failure != null) {
+            if (failure.until() - System.nanoTime() > 0)
+                throw new ImageFetchException(failure.message());
+            failures.remove(hash, failure);
+        }
+        misses.increment();
+
+        CompletableFuture<Variant> created = new CompletableFuture<>();
+        CompletableFuture<Variant> running = inFlight.putIfAbsent(key, created);
+        if (running != null)
+            return Optional.of(join(running));
+        try {
+            created.complete(cached(key).orElseGet(() -> generate(hash, source.get(), target)));
+        } catch (ImageFetchException e) {
+            failures.put(hash, new Failure(e.getMessage(), System.nanoTime() + config.failureTtl().toNanos()));
+            created.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key);
+        }
+        return Optional.of(join(created));
+    }
+
+    /** URL de origen de {@code hash}, si pertenece al contenido publicado. */
+    public Optional<URI> source(String hash) {
+        return sources.resolve(hash);
+    }
+
+    private Optional<Variant> cached(String key) {
+        return cache.get(key + ".jpg").map(file -> new Variant(file, "image/jpeg"))
+                .or(() -> cache.get(key + ".png").map(file -> new Variant(file, "image/png")));
+    }
+
+    private Variant generate(String hash, URI source, int width) {
+        BufferedImage original = decode(original(hash, source));
+        BufferedImage resized = resize(original, Math.min(width, original.getWidth()));
+        boolean alpha = original.getColorModel().hasAlpha();
+        String name = hash + "-" + width + (alpha ? ".png" : ".jpg");
+        byte[] encoded = alpha ? png(resized) : jpeg(resized);
+        return new Variant(cache.put(name, encoded), alpha ? "image/png" : "image/jpeg");
+    }
+
+    // El original también se cachea: otro ancho no vuelve a descargarlo.
+    private byte[] original(String hash, URI source) {
+        String name = hash + ".src";
+        Optional<Path> cached = cache.get(name);
+        try {
+            if (cached.isPresent())
+                return Files.readAllBytes(cached.get());
+            byte[] content = fetch(source);
+            cache.put(name, content);
+            return content;
+        } catch (IOException e) {
+            throw new ImageFetchException("No se pudo leer la imagen de origen", e);
+        }
+    }
+
+    private byte[] fetch(URI source) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(source)
+                .timeout(config.fetchTimeout())
+                .header("Accept", "image/*")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageFetchException("Descarga interrumpida: " + source, e);
+        } catch (IOException e) {
+            throw new ImageFetchException("El origen no responde: " + source, e);
+        }
+        try (InputStream body = response.body()) {
+            if (response.statusCode() / 100 == 3)
+                throw new ImageFetchException("El origen redirige a "
+                        + response.headers().firstValue("Location").orElse("?") + "; publica la URL final: " + source);
+            if (response.statusCode() != 200)
+                throw new ImageFetchException("El origen respondió " + response.statusCode() + ": " + source);
+            long limit = config.maxSourceSize().asLongValue();
+            byte[] content = body.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, limit + 1));
+            if (content.length > limit)
+                throw new ImageFetchException("La imagen de origen supera " + limit + " bytes: " + source);
+            return content;
+        }
+    }
+
+    private BufferedImage decode(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext())
+                throw new ImageFetchException("Formato de imagen no soportado");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Solo lee la cabecera: unos pocos KB pueden declarar gigapíxeles.
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > config.maxSourcePixels())
+                    throw new ImageFetchException("La imagen de origen supera " + config.maxSourcePixels() + " píxeles");
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new ImageFetchException("Imagen de origen corrupta", e);
+        }
+    }
+
+    // Reducción a la mitad en pasos y bicúbica al final: mejor calidad que un solo salto grande.
+    private static BufferedImage resize(BufferedImage source, int width) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) source.getHeight() * nextWidth / source.getWidth()));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    private byte[] jpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(config.jpegQuality());
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new ImageFetchException("No se pudo codificar la imagen", e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] png(BufferedImage image) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new ImageFetchException("No se pudo codificar la imagen", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Variant join(CompletableFuture<Variant> variant) {
+        try {
+            return variant.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sebastian.portfolio.infrastructure.image;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Proxy de imágenes externas: anchos servidos y caché en disco.
+ */
+@ConfigMapping(prefix = "portfolio.images")
+public interface ImageProxyConfig {
+
+    @WithDefault("target/image-cache")
+    String cacheDirectory();
+
+    /** Tamaño máximo de la caché en disco; se desalojan primero las menos usadas. */
+    @WithDefault("256M")
+    MemorySize maxCacheSize();
+
+    /** Anchos generados: ?w= se redondea al siguiente de la lista. */
+    @WithDefault("320,640,960,1280,1920")
+    List<Integer> widths();
+
+    /** Imágenes de origen más grandes se rechazan sin terminar de descargarlas. */
+    @WithDefault("20M")
+    MemorySize maxSourceSize();
+
+    /**
+     * Ancho por alto máximo del original, comprobado antes de decodificarlo
+     * (25 M ≈ 100 MB en memoria).
+     */
+    @WithDefault("25000000")
+    long maxSourcePixels();
+
+    @WithDefault("10s")
+    Duration fetchTimeout();
+
+    /** Tiempo durante el que un origen que falló no se vuelve a pedir. */
+    @WithDefault("5m")
+    Duration failureTtl();
+
+    /** Calidad JPEG (0-1) de las variantes. */
+    @WithDefault("0.82")
+    float jpegQuality();
+}
@@ -0,0 +1,99 @@
+package com.sebastian.portfolio.infrastructure.image;
+
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.application.service.ProfileService;
+import com.sebastian.portfolio.domain.port.in.ProjectUseCase;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.interceptor.Interceptor;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resuelve el hash de {@code /images/{hash}} a la URL de origen. Solo se
+ * aceptan las URLs que aparecen en los proyectos o en el perfil, así que el
+ * proxy no sirve para descargar direcciones arbitrarias.
+ *
+ * El hash son los 16 primeros caracteres hexadecimales del SHA-256 de la URL
+ * (el frontend lo calcula igual).
+ */
+@ApplicationScoped
+public class ImageSources {
+    private final ProjectUseCase projectService;
+    private final ProfileService profileService;
+
+    // null: hay que reconstruirlo (al arrancar o tras una escritura).
+    private volatile Map<String, URI> sources;
+    private final AtomicLong changes = new AtomicLong();
+
+    public ImageSources(ProjectUseCase projectService, ProfileService profileService) {
+        this.projectService = projectService;
+        this.profileService = profileService;
+    }
+
+    /** URL de origen del hash, si pertenece al contenido publicado. Puede ir a la BD. */
+    public Optional<URI> resolve(String hash) {
+        Map<String, URI> current = sources;
+        if (current == null)
+            current = rebuild();
+        return Optional.ofNullable(current.get(hash));
+    }
+
+    public static String hash(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Después del modelo de lectura: una reconstrucción posterior ya ve la escritura.
+    void onContentChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS)
+            @Priority(Interceptor.Priority.APPLICATION + 1000) ContentChangedEvent event) {
+        if (event.section() != ContentSection.LEARNING_TOOLS) {
+            changes.incrementAndGet();
+            sources = null;
+        }
+    }
+
+    private synchronized Map<String, URI> rebuild() {
+        if (sources != null)
+            return sources;
+        long seen = changes.get();
+        Map<String, URI> rebuilt = new HashMap<>();
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (ProjectDTO project : projectService.getAllProjects()) {
+                if (project.imageUrls() != null)
+                    project.imageUrls().forEach(url -> add(rebuilt, url));
+            }
+            add(rebuilt, profileService.getProfile().profileImage());
+        });
+        // Si hubo una escritura mientras se cargaba, se usa ahora pero no se guarda.
+        if (changes.get() == seen)
+            sources = rebuilt;
+        return rebuilt;
+    }
+
+    private static void add(Map<String, URI> sources, String url) {
+        if (url == null || !(url.startsWith("https://") || url.startsWith("http://")))
+            return;
+        try {
+            sources.put(hash(url), URI.create(url));
+        } catch (IllegalArgumentException e) {
+            // URL mal formada: se sirve tal cual desde el frontend.
+        }
+    }
+}
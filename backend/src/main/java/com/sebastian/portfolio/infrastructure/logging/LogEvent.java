@@ -0,0 +1,46 @@
+package com.sebastian.portfolio.infrastructure.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+
+/**
+ * Escribe un evento de log con sus campos en el MDC en lugar de dentro del
+ * mensaje: en JSON salen como claves propias ({@code "mdc": {"event": …,
+ * "user": …}}) y se pueden filtrar sin parsear texto. El mensaje es solo el
+ * nombre del evento.
+ *
+ * Los campos se ponen únicamente durante la llamada y después se restauran
+ * los valores anteriores. El handler asíncrono copia el MDC al encolar.
+ */
+public final class LogEvent {
+
+    private LogEvent() {
+    }
+
+    /**
+     * @param fields pares clave/valor: {@code "user", LogMask.username(u), "role", role}
+     */
+    public static void log(Logger logger, Logger.Level level, String event, Object... fields) {
+        if (!logger.isEnabled(level))
+            return;
+        Map<String, Object> previous = new HashMap<>();
+        previous.put("event", MDC.put("event", event));
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            String key = (String) fields[i];
+            Object old = MDC.put(key, String.valueOf(fields[i + 1]));
+            previous.putIfAbsent(key, old);
+        }
+        try {
+            logger.log(level, event);
+        } finally {
+            previous.forEach((key, old) -> {
+                if (old == null)
+                    MDC.remove(key);
+                else
+                    MDC.put(key, old);
+            });
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sebastian.portfolio.infrastructure.logging;
+
+/**
+ * Enmascara datos personales antes de escribirlos en un log: queda lo justo
+ * para correlacionar líneas sin exponer el usuario o el email completo.
+ */
+public final class LogMask {
+    private static final String HIDDEN = "***";
+
+    private LogMask() {
+    }
+
+    /** {@code admin} → {@code a***}. */
+    public static String username(String username) {
+        if (username == null || username.isBlank())
+            return HIDDEN;
+        return username.charAt(0) + HIDDEN;
+    }
+
+    /** {@code juan@example.com} → {@code j***@example.com}. */
+    public static String email(String email) {
+        if (email == null)
+            return HIDDEN;
+        int at = email.lastIndexOf('@');
+        if (at <= 0)
+            return username(email);
+        return email.charAt(0) + HIDDEN + email.substring(at);
+    }
+}
@@ -0,0 +1,86 @@
+package com.sebastian.portfolio.infrastructure.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Muestreo de eventos de log de alto volumen (logins fallidos, mensajes de
+ * contacto). Por evento se escriben como mucho
+ * {@code portfolio.logging.sampling.per-second} líneas por segundo; el resto
+ * solo se cuenta, y la siguiente línea escrita lleva el campo {@code omitted}.
+ *
+ * Sin bloqueos: el contador del segundo en curso es atómico y un cambio de
+ * segundo simultáneo puede dejar pasar alguna línea de más, nunca esperar.
+ * Las líneas descartadas se cuentan en {@code portfolio.log.sampled}.
+ */
+@ApplicationScoped
+public class LogSampler {
+
+    @ConfigProperty(name = "portfolio.logging.sampling.per-second", defaultValue = "10")
+    int perSecond;
+
+    private final MeterRegistry registry;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogSampler(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Escribe el evento con {@link LogEvent} si no superó su cupo del segundo
+     * actual. {@code fields} (pares clave/valor) solo se evalúa si la línea se
+     * escribe.
+     */
+    public void log(Logger logger, Logger.Level level, String event, Supplier<Object[]> fields) {
+        if (!logger.isEnabled(level))
+            return;
+        Window window = windows.computeIfAbsent(event, this::window);
+        long omitted = window.admit(System.currentTimeMillis() / 1000, perSecond);
+        if (omitted < 0)
+            return;
+        Object[] values = fields.get();
+        if (omitted > 0) {
+            values = Arrays.copyOf(values, values.length + 2);
+            values[values.length - 2] = "omitted";
+            values[values.length - 1] = omitted;
+        }
+        LogEvent.log(logger, level, event, values);
+    }
+
+    private Window window(String event) {
+        return new Window(Counter.builder("portfolio.log.sampled").tag("event", event).register(registry));
+    }
+
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong omitted = new AtomicLong();
+        private final Counter dropped;
+
+        Window(Counter dropped) {
+            this.dropped = dropped;
+        }
+
+        // Líneas omitidas desde la última escrita, o -1 si esta también se omite.
+        long admit(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now))
+                count.set(0);
+            if (count.incrementAndGet() > limit) {
+                omitted.incrementAndGet();
+                dropped.increment();
+                return -1;
+            }
+            return omitted.getAndSet(0);
+        }
+    }
+}
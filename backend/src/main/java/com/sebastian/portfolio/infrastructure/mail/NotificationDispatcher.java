@@ -0,0 +1,122 @@
+package com.sebastian.portfolio.infrastructure.mail;
+
+import com.sebastian.portfolio.infrastructure.logging.LogEvent;
+import com.sebastian.portfolio.infrastructure.persistence.repository.PanacheNotificationOutboxRepository;
+import com.sebastian.portfolio.infrastructure.persistence.repository.PanacheNotificationOutboxRepository.ClaimedNotification;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Despacha en segundo plano las notificaciones del outbox hacia Resend.
+ * Procesa lotes con concurrencia acotada, reintenta con backoff exponencial
+ * (con jitter) y deja registrado el estado de entrega de cada fila. Los
+ * reintentos de una fila reutilizan su Idempotency-Key.
+ */
+@ApplicationScoped
+public class NotificationDispatcher {
+    private static final Logger LOG = Logger.getLogger(NotificationDispatcher.class);
+
+    private final PanacheNotificationOutboxRepository outbox;
+    private final ResendClient resendClient;
+
+    @ConfigProperty(name = "resend.dispatcher.batch-size", defaultValue = "20")
+    int batchSize;
+
+    @ConfigProperty(name = "resend.dispatcher.max-concurrency", defaultValue = "4")
+    int maxConcurrency;
+
+    @ConfigProperty(name = "resend.dispatcher.max-attempts", defaultValue = "8")
+    int maxAttempts;
+
+    @ConfigProperty(name = "resend.dispatcher.initial-backoff", defaultValue = "10s")
+    Duration initialBackoff;
+
+    @ConfigProperty(name = "resend.dispatcher.max-backoff", defaultValue = "1h")
+    Duration maxBackoff;
+
+    @ConfigProperty(name = "resend.dispatcher.lease", defaultValue = "2m")
+    Duration lease;
+
+    public NotificationDispatcher(PanacheNotificationOutboxRepository outbox, ResendClient resendClient) {
+        this.outbox = outbox;
+        this.resendClient = resendClient;
+    }
+
+    @Scheduled(every = "${resend.dispatcher.interval:5s}", delayed = "${resend.dispatcher.initial-delay:30s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void dispatch() {
+        List<ClaimedNotification> batch = QuarkusTransaction.requiringNew()
+                .call(() -> outbox.claimDue(batchSize, lease, maxAttempts));
+        if (batch.isEmpty())
+            return;
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(batch.size());
+        for (ClaimedNotification notification : batch) {
+            permits.acquireUninterruptibly();
+            inFlight.add(resendClient.send(idempotencyKey(notification), notification.payload())
+                    .handle((response, error) -> {
+                        try {
+                            record(notification, response, error);
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }));
+        }
+        // Se espera al lote completo para que dos ejecuciones no se solapen.
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void record(ClaimedNotification notification, HttpResponse<String> response, Throwable error) {
+        try {
+            if (error == null && response.statusCode() / 100 == 2) {
+                QuarkusTransaction.requiringNew().run(() -> outbox.markSent(notification.id()));
+                LogEvent.log(LOG, Logger.Level.INFO, "notification.sent", "outbox", notification.id());
+                return;
+            }
+            String reason = error != null
+                    ? error.getClass().getSimpleName() + ": " + error.getMessage()
+                    : "HTTP " + response.statusCode() + ": " + response.body();
+            // 4xx (salvo 429) indica una petición inválida: reintentar no sirve.
+            boolean permanent = error == null && response.statusCode() / 100 == 4 && response.statusCode() != 429;
+            if (permanent || notification.attempts() >= maxAttempts) {
+                QuarkusTransaction.requiringNew().run(() -> outbox.markFailed(notification.id(), reason));
+                LogEvent.log(LOG, Logger.Level.ERROR, "notification.failed", "outbox", notification.id(),
+                        "reason", reason);
+            } else {
+                LocalDateTime next = LocalDateTime.now().plus(backoff(notification.attempts()));
+                QuarkusTransaction.requiringNew().run(() -> outbox.markRetry(notification.id(), next, reason));
+                LogEvent.log(LOG, Logger.Level.WARN, "notification.retry", "outbox", notification.id(),
+                        "next", next, "reason", reason);
+            }
+        } catch (RuntimeException e) {
+            // La reserva vence y la fila se vuelve a reclamar en otra ejecución.
+            LogEvent.log(LOG, Logger.Level.ERROR, "notification.record.failed", "outbox", notification.id(),
+                    "error", e.getMessage());
+        }
+    }
+
+    // Una por fila del outbox: todos los reintentos de un email comparten clave.
+    static String idempotencyKey(ClaimedNotification notification) {
+        return "outbox-" + notification.id();
+    }
+
+    // initialBackoff * 2^(intentos-1), acotado por maxBackoff, con jitter de hasta +25 %.
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        return Duration.ofMillis(capped + ThreadLocalRandom.current().nextLong(capped / 4 + 1));
+    }
+}
@@ -0,0 +1,70 @@
+package com.sebastian.portfolio.infrastructure.mail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Cliente HTTP de la API de Resend. Se crea un único {@link HttpClient} para
+ * toda la aplicación (reutiliza conexiones) y cada petición lleva un timeout.
+ * La URL base es configurable para poder apuntar a un stub HTTP local.
+ * Cada llamada registra {@code portfolio.resend.requests} por código de estado.
+ *
+ * Cada envío lleva una {@code Idempotency-Key}: si una petición expira pero
+ * Resend llegó a entregarla, el reintento con la misma clave no duplica el
+ * email.
+ */
+@ApplicationScoped
+public class ResendClient {
+    private final HttpClient client;
+    private final URI emailsUri;
+    private final String apiKey;
+    private final Duration requestTimeout;
+    private final MeterRegistry registry;
+
+    public ResendClient(
+            @ConfigProperty(name = "resend.api.url", defaultValue = "https://api.resend.com") String apiUrl,
+            @ConfigProperty(name = "resend.api.key") String apiKey,
+            @ConfigProperty(name = "resend.connect-timeout", defaultValue = "5s") Duration connectTimeout,
+            @ConfigProperty(name = "resend.request-timeout", defaultValue = "10s") Duration requestTimeout,
+            MeterRegistry registry) {
+        this.client = HttpClient.newBuilder().connectTimeout(connectTimeout).build();
+        this.emailsUri = URI.create(apiUrl.replaceAll("/+$", "") + "/emails");
+        this.apiKey = apiKey;
+        this.requestTimeout = requestTimeout;
+        this.registry = registry;
+    }
+
+    /** @param idempotencyKey estable entre reintentos del mismo email */
+    public CompletableFuture<HttpResponse<String>> send(String idempotencyKey, String payload) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(emailsUri)
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", idempotencyKey)
+                .POST(HttpRequest.BodyPublishers.ofString(payload))
+                .build();
+        Timer.Sample sample = Timer.start(registry);
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> sample.stop(Timer.builder("portfolio.resend.requests")
+                        .tag("status", response == null ? "none" : String.valueOf(response.statusCode()))
+                        .tag("outcome", outcome(response, error))
+                        .register(registry)));
+    }
+
+    // Sin respuesta (timeout, conexión rechazada) cuenta como "error".
+    private static String outcome(HttpResponse<?> response, Throwable error) {
+        if (error != null || response == null)
+            return "error";
+        int status = response.statusCode();
+        return status < 300 ? "success" : status < 500 ? "client_error" : "server_error";
+    }
+}
@@ -0,0 +1,55 @@
+package com.sebastian.portfolio.infrastructure.persistence;
+
+import com.sebastian.portfolio.infrastructure.persistence.entity.ProjectEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.jboss.logging.Logger;
+
+/**
+ * Numera las filas de las colecciones de proyectos creadas antes de la
+ * columna {@code sort_order}: al añadirla todas quedan con 0 y la lista se
+ * leería con huecos. Se conserva el orden físico de inserción. Solo toca los
+ * proyectos con más de una fila y todas a 0, así que en arranques posteriores
+ * no hace nada.
+ *
+ * Corre antes que los demás observadores de arranque (índice de búsqueda,
+ * exportación estática), que ya leen las listas ordenadas.
+ */
+@ApplicationScoped
+public class CollectionOrderBackfill {
+    private static final Logger LOG = Logger.getLogger(CollectionOrderBackfill.class);
+    private static final List<String> TABLES = List.of("project_technologies", "project_features", "project_images");
+
+    private final EntityManager entityManager;
+
+    public CollectionOrderBackfill(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION) StartupEvent event) {
+        for (String table : TABLES) {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> backfill(table));
+            } catch (RuntimeException e) {
+                LOG.warn("No se pudo numerar " + table + "." + ProjectEntity.ORDER_COLUMN + ": "
+                        + e.getMessage());
+            }
+        }
+    }
+
+    private void backfill(String table) {
+        String order = ProjectEntity.ORDER_COLUMN;
+        entityManager.createNativeQuery("update " + table + " t set " + order + " = n.position "
+                + "from (select ctid, row_number() over (partition by project_id order by ctid) - 1 as position "
+                + "from " + table + " where project_id in (select project_id from " + table
+                + " group by project_id having count(*) > 1 and max(" + order + ") = 0)) n "
+                + "where t.ctid = n.ctid")
+                .executeUpdate();
+    }
+}
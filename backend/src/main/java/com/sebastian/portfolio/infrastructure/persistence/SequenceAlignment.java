@@ -0,0 +1,47 @@
+package com.sebastian.portfolio.infrastructure.persistence;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import org.jboss.logging.Logger;
+
+/**
+ * Ajusta las secuencias de ids al arrancar. Las tablas creadas cuando los ids
+ * eran IDENTITY ya tienen filas, y la secuencia nueva empezaría en 1: se
+ * adelanta hasta el id máximo para que los siguientes bloques no choquen.
+ * Si la secuencia ya va por delante no se toca.
+ */
+@ApplicationScoped
+public class SequenceAlignment {
+    private static final Logger LOG = Logger.getLogger(SequenceAlignment.class);
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "projects", "projects_seq",
+            "learning_tools", "learning_tools_seq");
+
+    private final EntityManager entityManager;
+
+    public SequenceAlignment(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> align(table, sequence));
+            } catch (RuntimeException e) {
+                LOG.warn("No se pudo ajustar la secuencia " + sequence + ": " + e.getMessage());
+            }
+        });
+    }
+
+    // Con setval(max) el siguiente nextval devuelve max + 50 y Hibernate usa max+1..max+50.
+    private void align(String table, String sequence) {
+        entityManager.createNativeQuery("select setval('" + sequence + "', m.max_id) "
+                + "from (select max(id) as max_id from " + table + ") m, " + sequence + " s "
+                + "where m.max_id >= s.last_value")
+                .getResultList();
+    }
+}
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contact_messages")
+@Table(name = "contact_messages", indexes = @Index(name = "idx_contact_messages_created_at", columnList = "createdAt"))
 public class ContactMessageEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
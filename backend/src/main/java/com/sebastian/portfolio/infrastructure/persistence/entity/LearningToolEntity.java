@@ -2,11 +2,16 @@ package com.sebastian.portfolio.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 
+/**
+ * Herramienta en aprendizaje. Ids de secuencia por bloques para poder agrupar
+ * los INSERT (ver {@link ProjectEntity}).
+ */
 @Entity
 @Table(name = "learning_tools")
 public class LearningToolEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "learning_tools_seq")
+    @SequenceGenerator(name = "learning_tools_seq", sequenceName = "learning_tools_seq", allocationSize = 50)
     public Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,46 @@
+package com.sebastian.portfolio.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Bandeja de salida (outbox) de notificaciones por email. Cada fila se escribe
+ * en la misma transacción que el mensaje de contacto y la entrega la realiza
+ * después el despachador en segundo plano.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_due", columnList = "status, nextAttemptAt"))
+public class NotificationOutboxEntity {
+    public enum Status {
+        PENDING, // Pendiente de envío (o de reintento)
+        SENDING, // Reclamada por un despachador; se reintenta si vence la reserva
+        SENT,
+        FAILED // Error permanente o reintentos agotados
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+
+    // Cuerpo JSON listo para la API de Resend
+    @Column(columnDefinition = "TEXT", nullable = false)
+    public String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    public Status status;
+
+    @Column(nullable = false)
+    public int attempts;
+
+    @Column(nullable = false)
+    public LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    public String lastError;
+
+    @Column(nullable = false)
+    public LocalDateTime createdAt;
+
+    public LocalDateTime sentAt;
+}
@@ -2,16 +2,39 @@ package com.sebastian.portfolio.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import java.util.List;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 /**
  * Entidad JPA que representa la tabla 'projects' en la base de datos.
  * Define la estructura de persistencia para los proyectos del portafolio.
+ *
+ * Las colecciones usan fetch SUBSELECT: al inicializar la colección de un
+ * proyecto se cargan las de todos los proyectos de la misma consulta, de modo
+ * que un listado cuesta 1 + 3 sentencias sin importar cuántos proyectos haya.
+ *
+ * Las colecciones son listas indexadas ({@link OrderColumn}): el orden es
+ * estable y, si la lista se modifica en sitio, Hibernate solo escribe las
+ * posiciones que cambian en lugar de borrar y reinsertar todas las filas.
+ *
+ * Los ids salen de una secuencia que reserva bloques de 50: Hibernate conoce
+ * el id antes del INSERT y puede agruparlos en lotes JDBC (con IDENTITY cada
+ * fila es un viaje a la BD).
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "idx_projects_architecture", columnList = "architecture"))
 public class ProjectEntity {
+    /**
+     * Posición en las tablas de colecciones. El DEFAULT permite añadir la
+     * columna a tablas existentes; {@code CollectionOrderBackfill} numera
+     * después esas filas.
+     */
+    public static final String ORDER_COLUMN = "sort_order";
+    private static final String ORDER_COLUMN_DEFINITION = "integer default 0 not null";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     public Long id;
 
     @Column(nullable = false)
@@ -22,8 +45,11 @@ public class ProjectEntity {
 
     // Colección de tecnologías (Stack) asociadas al proyecto
     @ElementCollection
-    @CollectionTable(name = "project_technologies", joinColumns = @JoinColumn(name = "project_id"))
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(name = "project_technologies", joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_project_technologies_technology", columnList = "technology, project_id"))
     @Column(name = "technology")
+    @OrderColumn(name = ORDER_COLUMN, columnDefinition = ORDER_COLUMN_DEFINITION)
     public List<String> technologies;
 
     @Column(columnDefinition = "TEXT")
@@ -34,8 +60,10 @@ public class ProjectEntity {
 
     // Características principales del proyecto
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "project_features", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "feature")
+    @OrderColumn(name = ORDER_COLUMN, columnDefinition = ORDER_COLUMN_DEFINITION)
     public List<String> features;
 
     public String architecture; // Categoría o Capa de Arquitectura (ej: Backend / Java)
@@ -44,8 +72,10 @@ public class ProjectEntity {
 
     // Lista de URLs para las imágenes del carrusel (máximo 3 soportadas por UI)
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "project_images", joinColumns = @JoinColumn(name = "project_id"))
     @Column(name = "image_url")
+    @OrderColumn(name = ORDER_COLUMN, columnDefinition = ORDER_COLUMN_DEFINITION)
     public List<String> imageUrls;
 
     public String version; // Versión actual del proyecto (ej: 1.1.0)
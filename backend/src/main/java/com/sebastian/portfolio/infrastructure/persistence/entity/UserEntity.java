@@ -13,7 +13,7 @@ public class UserEntity {
     public String username;
 
     @Column(nullable = false)
-    public String password; // In a real app, this should be hashed
+    public String password; // Hash bcrypt; los valores en texto plano se migran en el siguiente login
 
     public String role;
 }
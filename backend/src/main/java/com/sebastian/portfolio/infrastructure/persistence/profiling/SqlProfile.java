@@ -0,0 +1,105 @@
+package com.sebastian.portfolio.infrastructure.persistence.profiling;
+
+import io.smallrye.common.vertx.ContextLocals;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sentencias SQL y tiempo de BD de una petición. Vive en el contexto Vert.x
+ * duplicado de la petición, que {@code BlockingDispatcher} conserva en el
+ * hilo virtual o worker: Hibernate la encuentra sin pasarla por parámetro.
+ * Fuera de una petición perfilada (arranque, tareas programadas) no hay
+ * perfil y no se registra nada.
+ */
+public final class SqlProfile {
+    private static final String KEY = SqlProfile.class.getName();
+    private static final int MAX_SLOW = 10;
+
+    /** Sentencia que superó el umbral de consulta lenta. */
+    public record Slow(String sql, long nanos) {
+    }
+
+    /** Sentencia idéntica preparada varias veces en la misma petición. */
+    public record Repeated(String sql, int count) {
+    }
+
+    private final long slowNanos;
+    private final Map<String, Integer> prepared = new HashMap<>();
+    private final List<Slow> slow = new ArrayList<>();
+    private int statements;
+    private long nanos;
+    private String pendingSql;
+    private long executionStart;
+
+    private SqlProfile(long slowNanos) {
+        this.slowNanos = slowNanos;
+    }
+
+    /** Abre el perfil de la petición actual; sin contexto de petición no hace nada. */
+    public static SqlProfile start(long slowNanos) {
+        if (!inRequest())
+            return null;
+        SqlProfile profile = new SqlProfile(slowNanos);
+        ContextLocals.put(KEY, profile);
+        return profile;
+    }
+
+    /** Perfil de la petición actual, o {@code null}. */
+    public static SqlProfile current() {
+        return inRequest() ? ContextLocals.get(KEY, null) : null;
+    }
+
+    private static boolean inRequest() {
+        Context context = Vertx.currentContext();
+        return context != null && VertxContext.isDuplicatedContext(context);
+    }
+
+    // Hibernate inspecciona el SQL justo antes de preparar la sentencia que se ejecuta a continuación.
+    synchronized void prepared(String sql) {
+        statements++;
+        prepared.merge(sql, 1, Integer::sum);
+        pendingSql = sql;
+    }
+
+    synchronized void executionStarted() {
+        executionStart = System.nanoTime();
+    }
+
+    synchronized void executionEnded() {
+        if (executionStart == 0)
+            return;
+        long elapsed = System.nanoTime() - executionStart;
+        executionStart = 0;
+        nanos += elapsed;
+        if (elapsed >= slowNanos && slow.size() < MAX_SLOW && pendingSql != null)
+            slow.add(new Slow(pendingSql, elapsed));
+    }
+
+    public synchronized int statements() {
+        return statements;
+    }
+
+    /** Tiempo de ejecución en la BD (sin preparar ni leer resultados). */
+    public synchronized long nanos() {
+        return nanos;
+    }
+
+    public synchronized List<Slow> slow() {
+        return List.copyOf(slow);
+    }
+
+    /** La sentencia más repetida, o {@code null} si ninguna llega a {@code threshold}. */
+    public synchronized Repeated mostRepeated(int threshold) {
+        Repeated worst = null;
+        for (Map.Entry<String, Integer> entry : prepared.entrySet()) {
+            if (entry.getValue() >= threshold && (worst == null || entry.getValue() > worst.count()))
+                worst = new Repeated(entry.getKey(), entry.getValue());
+        }
+        return worst;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sebastian.portfolio.infrastructure.persistence.profiling;
+
+import com.sebastian.portfolio.infrastructure.logging.LogEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Locale;
+import org.jboss.logging.Logger;
+
+/**
+ * Abre y cierra el {@link SqlProfile} de cada petición. Al cerrar registra las
+ * consultas lentas y la sentencia más repetida si llega a
+ * {@code repeat-threshold} (el patrón N+1 de cargar una colección por fila),
+ * y devuelve el valor de la cabecera Server-Timing.
+ *
+ * Métricas: {@code portfolio.sql.statements} (sentencias por petición),
+ * {@code portfolio.sql.slow} y {@code portfolio.sql.repeated}.
+ */
+@ApplicationScoped
+public class SqlProfiler {
+    private static final Logger LOG = Logger.getLogger(SqlProfiler.class);
+    private static final int MAX_SQL_LENGTH = 300;
+
+    private final SqlProfilingConfig config;
+    private final DistributionSummary statements;
+    private final Counter slow;
+    private final Counter repeated;
+
+    public SqlProfiler(SqlProfilingConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.statements = DistributionSummary.builder("portfolio.sql.statements").register(registry);
+        this.slow = Counter.builder("portfolio.sql.slow").register(registry);
+        this.repeated = Counter.builder("portfolio.sql.repeated").register(registry);
+    }
+
+    public boolean enabled() {
+        return config.enabled();
+    }
+
+    public void start() {
+        SqlProfile.start(config.slowQuery().toNanos());
+    }
+
+    /**
+     * @param route método y ruta, solo para los logs
+     * @return valor de Server-Timing, o {@code null} si la petición no se perfiló
+     */
+    public String finish(String route) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile == null)
+            return null;
+        int count = profile.statements();
+        statements.record(count);
+        String timing = String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d sentencias\"", profile.nanos() / 1e6,
+                count);
+
+        for (SqlProfile.Slow query : profile.slow()) {
+            slow.increment();
+            LogEvent.log(LOG, Logger.Level.WARN, "sql.slow", "route", route,
+                    "ms", String.format(Locale.ROOT, "%.1f", query.nanos() / 1e6), "sql", truncate(query.sql()));
+        }
+        SqlProfile.Repeated worst = profile.mostRepeated(config.repeatThreshold());
+        if (worst != null) {
+            repeated.increment();
+            LogEvent.log(LOG, Logger.Level.WARN, "sql.repeated", "route", route, "count", worst.count(),
+                    "sql", truncate(worst.sql()));
+            timing += ", n1;desc=\"" + worst.count() + " repeticiones\"";
+        }
+        return timing;
+    }
+
+    private static String truncate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
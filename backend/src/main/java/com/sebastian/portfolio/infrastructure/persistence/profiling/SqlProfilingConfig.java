@@ -0,0 +1,24 @@
+package com.sebastian.portfolio.infrastructure.persistence.profiling;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+/**
+ * Perfilado SQL por petición (cabecera Server-Timing, consultas lentas y
+ * sentencias repetidas).
+ */
+@ConfigMapping(prefix = "portfolio.sql-profiling")
+public interface SqlProfilingConfig {
+
+    @WithDefault("false")
+    boolean enabled();
+
+    /** Una sentencia que tarda al menos esto se registra como lenta. */
+    @WithDefault("100ms")
+    Duration slowQuery();
+
+    /** Veces que la misma sentencia puede repetirse en una petición antes de avisar de un N+1. */
+    @WithDefault("5")
+    int repeatThreshold();
+}
@@ -0,0 +1,22 @@
+package com.sebastian.portfolio.infrastructure.persistence.profiling;
+
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta en {@link SqlProfile} cada sentencia que Hibernate prepara. El SQL
+ * no se modifica.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null)
+            profile.prepared(sql);
+        return sql;
+    }
+}
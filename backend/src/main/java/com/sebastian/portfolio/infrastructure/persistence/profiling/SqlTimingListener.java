@@ -0,0 +1,37 @@
+package com.sebastian.portfolio.infrastructure.persistence.profiling;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Mide en {@link SqlProfile} la ejecución de cada sentencia y cada lote JDBC.
+ * Hibernate crea una instancia por sesión a partir de
+ * {@code hibernate.session.events.auto}, así que no es un bean.
+ */
+@RegisterForReflection
+public class SqlTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null)
+            profile.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null)
+            profile.executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
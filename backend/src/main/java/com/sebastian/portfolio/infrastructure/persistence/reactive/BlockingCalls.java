@@ -0,0 +1,22 @@
+package com.sebastian.portfolio.infrastructure.persistence.reactive;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una consulta del repositorio Panache bloqueante en el pool de
+ * workers. Cada llamada abre su propia transacción (y con ella su sesión de
+ * Hibernate): así varias consultas de la misma petición pueden ir en paralelo
+ * sin compartir una sesión, y las colecciones se leen de forma consistente.
+ */
+final class BlockingCalls {
+    private BlockingCalls() {
+    }
+
+    static <T> Uni<T> offload(Supplier<T> query) {
+        return Uni.createFrom().item(() -> QuarkusTransaction.requiringNew().call(query::get))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+}
@@ -0,0 +1,48 @@
+package com.sebastian.portfolio.infrastructure.persistence.reactive;
+
+import com.sebastian.portfolio.domain.model.LearningTool;
+import com.sebastian.portfolio.domain.port.out.ReactiveLearningToolOutputPort;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.Tuple;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador del modo {@code reactive}: consulta la tabla learning_tools con el
+ * cliente no bloqueante de PostgreSQL, sin ocupar un worker por petición.
+ */
+public class PgLearningToolRepository implements ReactiveLearningToolOutputPort {
+    private static final String SELECT = "SELECT id, name, category, status, progress FROM learning_tools";
+
+    private final Pool pool;
+
+    public PgLearningToolRepository(Pool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Uni<List<LearningTool>> findAll() {
+        return pool.query(SELECT + " ORDER BY id").execute().map(rows -> {
+            List<LearningTool> tools = new ArrayList<>(rows.size());
+            rows.forEach(row -> tools.add(toDomain(row)));
+            return tools;
+        });
+    }
+
+    @Override
+    public Uni<Optional<LearningTool>> findById(Long id) {
+        return pool.preparedQuery(SELECT + " WHERE id = $1").execute(Tuple.of(id)).map(rows -> {
+            RowIterator<Row> iterator = rows.iterator();
+            return iterator.hasNext() ? Optional.of(toDomain(iterator.next())) : Optional.empty();
+        });
+    }
+
+    private static LearningTool toDomain(Row row) {
+        return new LearningTool(row.getLong(0), row.getString(1), row.getString(2),
+                row.getString(3), row.getInteger(4));
+    }
+}
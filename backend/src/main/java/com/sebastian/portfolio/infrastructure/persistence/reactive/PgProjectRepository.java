@@ -0,0 +1,116 @@
+package com.sebastian.portfolio.infrastructure.persistence.reactive;
+
+import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import com.sebastian.portfolio.domain.model.ProjectPage;
+import com.sebastian.portfolio.domain.port.out.ReactiveProjectOutputPort;
+import com.sebastian.portfolio.infrastructure.persistence.entity.ProjectEntity;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador del modo {@code reactive}: lee proyectos con el cliente no
+ * bloqueante de PostgreSQL, sin ocupar un worker mientras espera a la BD.
+ *
+ * Mismo plan que el adaptador Panache con fetch SUBSELECT: una consulta para
+ * las filas de projects y otra por colección filtrada por los ids obtenidos.
+ * Las tres de colecciones se envían a la vez por la misma conexión.
+ */
+public class PgProjectRepository implements ReactiveProjectOutputPort {
+    private static final String SELECT = "SELECT p.id, p.title, p.description, p.problem, p.learning,"
+            + " p.architecture, p.githubUrl, p.demoUrl, p.version FROM projects p";
+
+    private final Pool pool;
+
+    public PgProjectRepository(Pool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Uni<List<Project>> findAll() {
+        return pool.withConnection(conn -> conn.query(SELECT + " ORDER BY p.id").execute()
+                .flatMap(rows -> withCollections(conn, rows)));
+    }
+
+    @Override
+    public Uni<ProjectPage> findPage(ProjectCriteria criteria) {
+        List<Object> params = new ArrayList<>();
+        params.add(criteria.after() == null ? 0L : criteria.after());
+        StringBuilder sql = new StringBuilder(SELECT).append(" WHERE p.id > $1");
+        if (criteria.architecture() != null) {
+            params.add(criteria.architecture());
+            sql.append(" AND p.architecture = $").append(params.size());
+        }
+        if (criteria.technology() != null) {
+            params.add(criteria.technology());
+            sql.append(" AND EXISTS (SELECT 1 FROM project_technologies t WHERE t.project_id = p.id")
+                    .append(" AND t.technology = $").append(params.size()).append(")");
+        }
+        params.add(criteria.limit() + 1);
+        sql.append(" ORDER BY p.id LIMIT $").append(params.size());
+
+        return pool.withConnection(conn -> conn.preparedQuery(sql.toString()).execute(Tuple.from(params))
+                .flatMap(rows -> withCollections(conn, rows)))
+                .map(rows -> {
+                    boolean hasMore = rows.size() > criteria.limit();
+                    List<Project> items = hasMore ? new ArrayList<>(rows.subList(0, criteria.limit())) : rows;
+                    Long nextCursor = hasMore ? items.get(items.size() - 1).getId() : null;
+                    return new ProjectPage(items, nextCursor);
+                });
+    }
+
+    @Override
+    public Uni<Optional<Project>> findById(Long id) {
+        return pool.withConnection(conn -> conn.preparedQuery(SELECT + " WHERE p.id = $1").execute(Tuple.of(id))
+                .flatMap(rows -> withCollections(conn, rows)))
+                .map(projects -> projects.stream().findFirst());
+    }
+
+    private Uni<List<Project>> withCollections(SqlConnection conn, RowSet<Row> rows) {
+        List<Row> projectRows = new ArrayList<>(rows.size());
+        rows.forEach(projectRows::add);
+        if (projectRows.isEmpty())
+            return Uni.createFrom().item(new ArrayList<>());
+
+        Long[] ids = projectRows.stream().map(row -> row.getLong(0)).toArray(Long[]::new);
+        return Uni.combine().all().unis(
+                values(conn, "project_technologies", "technology", ids),
+                values(conn, "project_features", "feature", ids),
+                values(conn, "project_images", "image_url", ids))
+                .with((technologies, features, images) -> projectRows.stream()
+                        .map(row -> toDomain(row, technologies, features, images))
+                        .collect(Collectors.toList()));
+    }
+
+    // sort_order es la posición de la lista (@OrderColumn en ProjectEntity).
+    private static Uni<Map<Long, List<String>>> values(SqlConnection conn, String table, String column, Long[] ids) {
+        return conn.preparedQuery("SELECT project_id, " + column + " FROM " + table
+                + " WHERE project_id = ANY($1) ORDER BY project_id, " + ProjectEntity.ORDER_COLUMN)
+                .execute(Tuple.of(ids))
+                .map(rows -> {
+                    Map<Long, List<String>> byProject = new HashMap<>();
+                    rows.forEach(row -> byProject.computeIfAbsent(row.getLong(0), k -> new ArrayList<>())
+                            .add(row.getString(1)));
+                    return byProject;
+                });
+    }
+
+    private static Project toDomain(Row row, Map<Long, List<String>> technologies,
+            Map<Long, List<String>> features, Map<Long, List<String>> images) {
+        Long id = row.getLong(0);
+        return new Project(id, row.getString(1), row.getString(2),
+                technologies.getOrDefault(id, new ArrayList<>()), row.getString(3), row.getString(4),
+                features.getOrDefault(id, new ArrayList<>()), row.getString(5), row.getString(6),
+                row.getString(7), images.getOrDefault(id, new ArrayList<>()), row.getString(8));
+    }
+}
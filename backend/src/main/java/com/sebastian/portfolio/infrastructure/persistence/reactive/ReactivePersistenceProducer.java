@@ -0,0 +1,62 @@
+package com.sebastian.portfolio.infrastructure.persistence.reactive;
+
+import com.sebastian.portfolio.application.metrics.Measured;
+import com.sebastian.portfolio.domain.port.out.LearningToolOutputPort;
+import com.sebastian.portfolio.domain.port.out.ProjectOutputPort;
+import com.sebastian.portfolio.domain.port.out.ReactiveLearningToolOutputPort;
+import com.sebastian.portfolio.domain.port.out.ReactiveProjectOutputPort;
+import io.quarkus.arc.BindingsSource;
+import io.quarkus.arc.InterceptionProxy;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Elige los adaptadores de los puertos reactivos según
+ * {@code portfolio.persistence.mode}:
+ * <ul>
+ * <li>{@code blocking} (por defecto): repositorios Panache en el pool de workers.</li>
+ * <li>{@code reactive}: cliente no bloqueante de PostgreSQL
+ * ({@code quarkus.datasource.reactive.*}).</li>
+ * </ul>
+ * El pool reactivo solo se resuelve en el modo que lo usa. Los adaptadores
+ * se crean con {@code new}, así que se envuelven en un {@link InterceptionProxy}
+ * para que pasen por {@link Measured} como los demás puertos.
+ */
+@ApplicationScoped
+public class ReactivePersistenceProducer {
+    public enum Mode {
+        BLOCKING, REACTIVE
+    }
+
+    @ConfigProperty(name = "portfolio.persistence.mode", defaultValue = "blocking")
+    Mode mode;
+
+    @Produces
+    @ApplicationScoped
+    ReactiveProjectOutputPort projects(ProjectOutputPort blocking, Instance<Pool> pool,
+            @BindingsSource(MeasuredProjects.class) InterceptionProxy<ReactiveProjectOutputPort> proxy) {
+        return proxy.create(mode == Mode.REACTIVE
+                ? new PgProjectRepository(pool.get())
+                : new WorkerPoolProjectRepository(blocking));
+    }
+
+    @Produces
+    @ApplicationScoped
+    ReactiveLearningToolOutputPort learningTools(LearningToolOutputPort blocking, Instance<Pool> pool,
+            @BindingsSource(MeasuredLearningTools.class) InterceptionProxy<ReactiveLearningToolOutputPort> proxy) {
+        return proxy.create(mode == Mode.REACTIVE
+                ? new PgLearningToolRepository(pool.get())
+                : new WorkerPoolLearningToolRepository(blocking));
+    }
+
+    @Measured
+    abstract static class MeasuredProjects implements ReactiveProjectOutputPort {
+    }
+
+    @Measured
+    abstract static class MeasuredLearningTools implements ReactiveLearningToolOutputPort {
+    }
+}
@@ -0,0 +1,29 @@
+package com.sebastian.portfolio.infrastructure.persistence.reactive;
+
+import com.sebastian.portfolio.domain.model.LearningTool;
+import com.sebastian.portfolio.domain.port.out.LearningToolOutputPort;
+import com.sebastian.portfolio.domain.port.out.ReactiveLearningToolOutputPort;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador del modo {@code blocking} para herramientas de aprendizaje.
+ */
+public class WorkerPoolLearningToolRepository implements ReactiveLearningToolOutputPort {
+    private final LearningToolOutputPort delegate;
+
+    public WorkerPoolLearningToolRepository(LearningToolOutputPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Uni<List<LearningTool>> findAll() {
+        return BlockingCalls.offload(delegate::findAll);
+    }
+
+    @Override
+    public Uni<Optional<LearningTool>> findById(Long id) {
+        return BlockingCalls.offload(() -> delegate.findById(id));
+    }
+}
@@ -0,0 +1,37 @@
+package com.sebastian.portfolio.infrastructure.persistence.reactive;
+
+import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import com.sebastian.portfolio.domain.model.ProjectPage;
+import com.sebastian.portfolio.domain.port.out.ProjectOutputPort;
+import com.sebastian.portfolio.domain.port.out.ReactiveProjectOutputPort;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador del modo {@code blocking}: delega en el repositorio Panache y
+ * ejecuta cada consulta en el pool de workers (ver {@link BlockingCalls}).
+ */
+public class WorkerPoolProjectRepository implements ReactiveProjectOutputPort {
+    private final ProjectOutputPort delegate;
+
+    public WorkerPoolProjectRepository(ProjectOutputPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Uni<List<Project>> findAll() {
+        return BlockingCalls.offload(delegate::findAll);
+    }
+
+    @Override
+    public Uni<ProjectPage> findPage(ProjectCriteria criteria) {
+        return BlockingCalls.offload(() -> delegate.findPage(criteria));
+    }
+
+    @Override
+    public Uni<Optional<Project>> findById(Long id) {
+        return BlockingCalls.offload(() -> delegate.findById(id));
+    }
+}
@@ -1,20 +1,29 @@
 package com.sebastian.portfolio.infrastructure.persistence.repository;
 
+import com.sebastian.portfolio.application.metrics.Measured;
 import com.sebastian.portfolio.domain.model.ContactMessage;
 import com.sebastian.portfolio.domain.port.out.ContactOutputPort;
 import com.sebastian.portfolio.infrastructure.persistence.entity.ContactMessageEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 
 @ApplicationScoped
+@Measured
 public class PanacheContactRepository implements ContactOutputPort {
 
     @ApplicationScoped
     public static class PanacheInternalRepository implements PanacheRepository<ContactMessageEntity> {
     }
 
+    private static final int EXPORT_FETCH_SIZE = 500;
+
     private final PanacheInternalRepository internalRepository;
 
     public PanacheContactRepository(PanacheInternalRepository internalRepository) {
@@ -38,6 +47,34 @@ public class PanacheContactRepository implements ContactOutputPort {
         return internalRepository.listAll().stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    /**
+     * Proyección por constructor: las filas no se registran en el contexto de
+     * persistencia y el driver las lee con un cursor de {@code EXPORT_FETCH_SIZE}
+     * filas, así que la memoria no depende del tamaño de la tabla.
+     */
+    @Override
+    public void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<ContactMessage> consumer) {
+        StringBuilder hql = new StringBuilder("select new ").append(ContactMessage.class.getName())
+                .append("(m.id, m.name, m.email, m.message, m.createdAt) from ContactMessageEntity m where 1 = 1");
+        if (from != null)
+            hql.append(" and m.createdAt >= :from");
+        if (to != null)
+            hql.append(" and m.createdAt < :to");
+        hql.append(" order by m.createdAt, m.id");
+
+        TypedQuery<ContactMessage> query = internalRepository.getEntityManager()
+                .createQuery(hql.toString(), ContactMessage.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (from != null)
+            query.setParameter("from", from);
+        if (to != null)
+            query.setParameter("to", to);
+        try (Stream<ContactMessage> rows = query.getResultStream()) {
+            rows.forEach(consumer);
+        }
+    }
+
     private ContactMessage toDomain(ContactMessageEntity entity) {
         return new ContactMessage(entity.id, entity.name, entity.email, entity.message, entity.createdAt);
     }
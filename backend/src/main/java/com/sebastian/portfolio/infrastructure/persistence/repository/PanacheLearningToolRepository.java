@@ -1,15 +1,22 @@
 package com.sebastian.portfolio.infrastructure.persistence.repository;
 
+import com.sebastian.portfolio.application.metrics.Measured;
 import com.sebastian.portfolio.domain.model.LearningTool;
 import com.sebastian.portfolio.domain.port.out.LearningToolOutputPort;
 import com.sebastian.portfolio.infrastructure.persistence.entity.LearningToolEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
+@Measured
 public class PanacheLearningToolRepository implements LearningToolOutputPort {
 
     @ApplicationScoped
@@ -42,18 +49,48 @@ public class PanacheLearningToolRepository implements LearningToolOutputPort {
     @Override
     public LearningTool update(LearningTool tool) {
         LearningToolEntity entity = internalRepository.findById(tool.getId());
-        if (entity != null) {
-            entity.name = tool.getName();
-            entity.category = tool.getCategory();
-            entity.status = tool.getStatus();
-            entity.progress = tool.getProgress();
-        }
+        if (entity != null)
+            apply(tool, entity);
         return toDomain(entity);
     }
 
+    /**
+     * Una consulta para los existentes y un flush para todo el lote (INSERT
+     * agrupados gracias a los ids de secuencia).
+     */
+    @Override
+    public List<LearningTool> saveAll(List<LearningTool> tools) {
+        Set<Long> ids = tools.stream().map(LearningTool::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, LearningToolEntity> existing = ids.isEmpty() ? Map.of()
+                : internalRepository.list("id in ?1", ids).stream()
+                        .collect(Collectors.toMap(entity -> entity.id, Function.identity()));
+        List<LearningToolEntity> saved = new ArrayList<>(tools.size());
+        for (LearningTool tool : tools) {
+            LearningToolEntity entity;
+            if (tool.getId() == null) {
+                entity = toEntity(tool);
+                internalRepository.persist(entity);
+            } else {
+                entity = existing.get(tool.getId());
+                if (entity != null)
+                    apply(tool, entity);
+            }
+            saved.add(entity);
+        }
+        internalRepository.flush();
+        return saved.stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
     @Override
-    public void deleteById(Long id) {
-        internalRepository.deleteById(id);
+    public boolean deleteById(Long id) {
+        return internalRepository.deleteById(id);
+    }
+
+    private void apply(LearningTool tool, LearningToolEntity entity) {
+        entity.name = tool.getName();
+        entity.category = tool.getCategory();
+        entity.status = tool.getStatus();
+        entity.progress = tool.getProgress();
     }
 
     private LearningTool toDomain(LearningToolEntity entity) {
@@ -0,0 +1,103 @@
+package com.sebastian.portfolio.infrastructure.persistence.repository;
+
+import com.sebastian.portfolio.application.metrics.Measured;
+import com.sebastian.portfolio.domain.port.out.NotificationOutboxPort;
+import com.sebastian.portfolio.infrastructure.persistence.entity.NotificationOutboxEntity;
+import com.sebastian.portfolio.infrastructure.persistence.entity.NotificationOutboxEntity.Status;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Timeouts;
+
+@ApplicationScoped
+@Measured
+public class PanacheNotificationOutboxRepository implements NotificationOutboxPort {
+
+    @ApplicationScoped
+    public static class PanacheInternalRepository implements PanacheRepository<NotificationOutboxEntity> {
+    }
+
+    /**
+     * Notificación reclamada por el despachador.
+     */
+    public record ClaimedNotification(Long id, String payload, int attempts) {
+    }
+
+    private final PanacheInternalRepository internalRepository;
+
+    public PanacheNotificationOutboxRepository(PanacheInternalRepository internalRepository) {
+        this.internalRepository = internalRepository;
+    }
+
+    @Override
+    public void enqueue(String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        NotificationOutboxEntity entity = new NotificationOutboxEntity();
+        entity.payload = payload;
+        entity.status = Status.PENDING;
+        entity.attempts = 0;
+        entity.nextAttemptAt = now;
+        entity.createdAt = now;
+        internalRepository.persist(entity);
+    }
+
+    /**
+     * Reclama hasta {@code max} notificaciones vencidas y las reserva durante
+     * {@code lease}. Usa SELECT ... FOR UPDATE SKIP LOCKED, así que varias
+     * instancias pueden despachar a la vez sin repartirse la misma fila. Si un
+     * despachador muere a mitad de envío, la fila vuelve a estar disponible al
+     * vencer la reserva. Requiere una transacción activa.
+     *
+     * Una fila en SENDING con la reserva vencida y {@code maxAttempts} intentos
+     * ya consumidos se marca FAILED en lugar de reclamarse: si es ella la que
+     * tumba al despachador, no se reintenta indefinidamente.
+     */
+    public List<ClaimedNotification> claimDue(int max, Duration lease, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutboxEntity> due = internalRepository
+                .find("status in (:pending, :sending) and nextAttemptAt <= :now order by nextAttemptAt",
+                        Parameters.with("pending", Status.PENDING).and("sending", Status.SENDING).and("now", now))
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .withHint("jakarta.persistence.lock.timeout", Timeouts.SKIP_LOCKED_MILLI)
+                .page(Page.ofSize(max))
+                .list();
+        List<ClaimedNotification> claimed = new ArrayList<>(due.size());
+        for (NotificationOutboxEntity entity : due) {
+            if (entity.status == Status.SENDING && entity.attempts >= maxAttempts) {
+                entity.status = Status.FAILED;
+                entity.lastError = "Reserva vencida tras " + entity.attempts + " intentos";
+                continue;
+            }
+            entity.status = Status.SENDING;
+            entity.attempts++;
+            entity.nextAttemptAt = now.plus(lease);
+            claimed.add(new ClaimedNotification(entity.id, entity.payload, entity.attempts));
+        }
+        return claimed;
+    }
+
+    public void markSent(Long id) {
+        internalRepository.update("status = ?1, sentAt = ?2, lastError = null where id = ?3",
+                Status.SENT, LocalDateTime.now(), id);
+    }
+
+    public void markRetry(Long id, LocalDateTime nextAttemptAt, String error) {
+        internalRepository.update("status = ?1, nextAttemptAt = ?2, lastError = ?3 where id = ?4",
+                Status.PENDING, nextAttemptAt, truncate(error), id);
+    }
+
+    public void markFailed(Long id, String error) {
+        internalRepository.update("status = ?1, lastError = ?2 where id = ?3",
+                Status.FAILED, truncate(error), id);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
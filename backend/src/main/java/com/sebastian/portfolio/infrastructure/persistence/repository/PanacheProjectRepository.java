@@ -1,15 +1,27 @@
 package com.sebastian.portfolio.infrastructure.persistence.repository;
 
+import com.sebastian.portfolio.application.metrics.Measured;
 import com.sebastian.portfolio.domain.model.Project;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
+import com.sebastian.portfolio.domain.model.ProjectPage;
 import com.sebastian.portfolio.domain.port.out.ProjectOutputPort;
 import com.sebastian.portfolio.infrastructure.persistence.entity.ProjectEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
+@Measured
 public class PanacheProjectRepository implements ProjectOutputPort {
 
     @ApplicationScoped
@@ -22,9 +34,44 @@ public class PanacheProjectRepository implements ProjectOutputPort {
         this.internalRepository = internalRepository;
     }
 
+    /**
+     * Carga todos los proyectos con sus colecciones en un número fijo de
+     * consultas (ver {@link ProjectEntity}): la primera colección inicializada
+     * dispara un SUBSELECT que trae las de todo el listado.
+     */
     @Override
     public List<Project> findAll() {
-        return internalRepository.listAll().stream().map(this::toDomain).collect(Collectors.toList());
+        return internalRepository.listAll(Sort.by("id")).stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    /**
+     * Paginación por clave (id > after) con los filtros evaluados en SQL. Se pide
+     * un elemento de más para saber si existe una página siguiente sin un COUNT.
+     */
+    @Override
+    public ProjectPage findPage(ProjectCriteria criteria) {
+        StringBuilder query = new StringBuilder("from ProjectEntity p where p.id > :after");
+        Parameters params = Parameters.with("after", criteria.after() == null ? 0L : criteria.after());
+        if (criteria.architecture() != null) {
+            query.append(" and p.architecture = :architecture");
+            params.and("architecture", criteria.architecture());
+        }
+        if (criteria.technology() != null) {
+            // Subconsulta correlacionada sobre project_technologies: un proyecto con
+            // la tecnología repetida no aparece dos veces.
+            query.append(" and exists (select 1 from ProjectEntity q join q.technologies t")
+                    .append(" where q.id = p.id and t = :technology)");
+            params.and("technology", criteria.technology());
+        }
+        query.append(" order by p.id");
+
+        List<ProjectEntity> rows = internalRepository.find(query.toString(), params)
+                .page(Page.ofSize(criteria.limit() + 1))
+                .list();
+        boolean hasMore = rows.size() > criteria.limit();
+        List<Project> items = rows.stream().limit(criteria.limit()).map(this::toDomain).collect(Collectors.toList());
+        Long nextCursor = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new ProjectPage(items, nextCursor);
     }
 
     @Override
@@ -42,36 +89,100 @@ public class PanacheProjectRepository implements ProjectOutputPort {
     @Override
     public Project update(Project project) {
         ProjectEntity entity = internalRepository.findById(project.getId());
-        if (entity != null) {
-            entity.title = project.getTitle();
-            entity.description = project.getDescription();
-            entity.technologies = project.getTechnologies();
-            entity.problem = project.getProblem();
-            entity.learning = project.getLearning();
-            entity.features = project.getFeatures();
-            entity.architecture = project.getArchitecture();
-            entity.githubUrl = project.getGithubUrl();
-            entity.demoUrl = project.getDemoUrl();
-            entity.imageUrls = project.getImageUrls();
-        }
+        if (entity != null)
+            apply(project, entity);
         return toDomain(entity);
     }
 
+    /**
+     * Los existentes se cargan con una sola consulta y todo se escribe en un
+     * flush: con ids de secuencia e inserciones ordenadas, Hibernate agrupa
+     * los INSERT de proyectos y de sus colecciones en lotes JDBC.
+     */
     @Override
-    public void deleteById(Long id) {
-        internalRepository.deleteById(id);
+    public List<Project> saveAll(List<Project> projects) {
+        Set<Long> ids = projects.stream().map(Project::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, ProjectEntity> existing = ids.isEmpty() ? Map.of()
+                : internalRepository.list("id in ?1", ids).stream()
+                        .collect(Collectors.toMap(entity -> entity.id, Function.identity()));
+        List<ProjectEntity> saved = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            ProjectEntity entity;
+            if (project.getId() == null) {
+                entity = toEntity(project);
+                internalRepository.persist(entity);
+            } else {
+                entity = existing.get(project.getId());
+                if (entity != null)
+                    apply(project, entity);
+            }
+            saved.add(entity);
+        }
+        internalRepository.flush();
+        return saved.stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return internalRepository.deleteById(id);
+    }
+
+    private void apply(Project project, ProjectEntity entity) {
+        entity.title = project.getTitle();
+        entity.description = project.getDescription();
+        entity.technologies = sync(entity.technologies, project.getTechnologies());
+        entity.problem = project.getProblem();
+        entity.learning = project.getLearning();
+        entity.features = sync(entity.features, project.getFeatures());
+        entity.architecture = project.getArchitecture();
+        entity.githubUrl = project.getGithubUrl();
+        entity.demoUrl = project.getDemoUrl();
+        entity.imageUrls = sync(entity.imageUrls, project.getImageUrls());
+        entity.version = project.getVersion();
+    }
+
+    /**
+     * Actualiza la colección gestionada en sitio en lugar de reemplazarla:
+     * reasignar la lista hace que Hibernate borre todas las filas y las vuelva
+     * a insertar. Si no cambia nada la colección no queda sucia y no se emite
+     * ninguna sentencia; si cambia, solo se escriben las posiciones distintas
+     * (UPDATE) y la cola que sobra o falta (DELETE / INSERT).
+     */
+    private static List<String> sync(List<String> current, List<String> next) {
+        List<String> target = next == null ? List.of() : next;
+        if (current == null)
+            return new ArrayList<>(target);
+        if (current.equals(target))
+            return current;
+        int common = Math.min(current.size(), target.size());
+        for (int i = 0; i < common; i++) {
+            if (!Objects.equals(current.get(i), target.get(i)))
+                current.set(i, target.get(i));
+        }
+        if (current.size() > common)
+            current.subList(common, current.size()).clear();
+        else
+            current.addAll(target.subList(common, target.size()));
+        return current;
     }
 
-    private Project toDomain(ProjectEntity entity) {
+    // toDomain/toEntity son de paquete para medirlas desde src/jmh (ProjectMappingBenchmark).
+    Project toDomain(ProjectEntity entity) {
         if (entity == null)
             return null;
-        return new Project(entity.id, entity.title, entity.description, entity.technologies,
-                entity.problem, entity.learning, entity.features,
-                entity.architecture, entity.githubUrl, entity.demoUrl, entity.imageUrls,
+        return new Project(entity.id, entity.title, entity.description, copy(entity.technologies),
+                entity.problem, entity.learning, copy(entity.features),
+                entity.architecture, entity.githubUrl, entity.demoUrl, copy(entity.imageUrls),
                 entity.version);
     }
 
-    private ProjectEntity toEntity(Project project) {
+    // Copia la colección dentro del adaptador: se inicializa mientras la sesión
+    // sigue abierta y el dominio nunca recibe una colección perezosa de Hibernate.
+    private List<String> copy(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    ProjectEntity toEntity(Project project) {
         ProjectEntity entity = new ProjectEntity();
         entity.id = project.getId();
         entity.title = project.getTitle();
@@ -0,0 +1,128 @@
+package com.sebastian.portfolio.infrastructure.security;
+
+import com.sebastian.portfolio.infrastructure.logging.LogEvent;
+import com.sebastian.portfolio.infrastructure.logging.LogMask;
+import com.sebastian.portfolio.infrastructure.persistence.entity.UserEntity;
+import com.sebastian.portfolio.infrastructure.persistence.repository.PanacheUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import org.jboss.logging.Logger;
+
+/**
+ * Login con usuario y contraseña. La búsqueda del usuario se hace en el hilo
+ * que llama (bloqueante); la verificación bcrypt, la migración del hash y la
+ * firma del token se ejecutan en {@link CredentialExecutor}.
+ *
+ * Latencias en /q/metrics: {@code portfolio.auth.login{outcome}} para el login
+ * completo y {@code portfolio.auth.login.phase{phase}} para cada fase.
+ */
+@ApplicationScoped
+public class AuthenticationService {
+    private static final Logger LOG = Logger.getLogger(AuthenticationService.class);
+
+    private final PanacheUserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final TokenService tokenService;
+    private final CredentialExecutor executor;
+    private final MeterRegistry registry;
+    private final Timer lookupTimer;
+    private final Timer verifyTimer;
+    private final Timer rehashTimer;
+    private final Timer signTimer;
+
+    private record Credentials(Long id, String username, String password, String role) {
+        static Credentials of(UserEntity user) {
+            return new Credentials(user.id, user.username, user.password, user.role);
+        }
+    }
+
+    public AuthenticationService(PanacheUserRepository userRepository, PasswordHasher passwordHasher,
+            TokenService tokenService, CredentialExecutor executor, MeterRegistry registry) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.tokenService = tokenService;
+        this.executor = executor;
+        this.registry = registry;
+        this.lookupTimer = phaseTimer("lookup");
+        this.verifyTimer = phaseTimer("verify");
+        this.rehashTimer = phaseTimer("rehash");
+        this.signTimer = phaseTimer("sign");
+    }
+
+    /**
+     * Devuelve el token si las credenciales son válidas. Si el pool de
+     * credenciales está saturado, falla con {@link RejectedExecutionException}.
+     */
+    public CompletionStage<Optional<String>> login(String username, String password) {
+        Timer.Sample sample = Timer.start(registry);
+        if (username == null || password == null) {
+            sample.stop(loginTimer("invalid"));
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        Optional<Credentials> user = lookupTimer.record(
+                () -> userRepository.findByUsername(username).map(Credentials::of));
+        return executor.submit(() -> authenticate(user, password))
+                .whenComplete((token, error) -> sample.stop(loginTimer(outcome(token, error))));
+    }
+
+    private Optional<String> authenticate(Optional<Credentials> user, String password) {
+        if (user.isEmpty()) {
+            verifyTimer.record(() -> passwordHasher.simulateMatch(password));
+            return Optional.empty();
+        }
+        Credentials credentials = user.get();
+        if (!verifyTimer.record(() -> passwordHasher.matches(password, credentials.password())))
+            return Optional.empty();
+        if (passwordHasher.needsRehash(credentials.password()))
+            rehashTimer.record(() -> rehash(credentials, password));
+        return Optional.of(signTimer.record(
+                () -> tokenService.generateToken(credentials.username(), credentials.role())));
+    }
+
+    /**
+     * Sustituye el valor guardado (texto plano o coste antiguo) por un hash
+     * nuevo. Solo actualiza si no ha cambiado desde la lectura; un fallo aquí
+     * no impide el login, se reintentará en el siguiente.
+     */
+    private void rehash(Credentials credentials, String password) {
+        String hash = passwordHasher.hash(password);
+        try {
+            QuarkusTransaction.requiringNew().run(() -> userRepository.update(
+                    "password = ?1 where id = ?2 and password = ?3",
+                    hash, credentials.id(), credentials.password()));
+            LogEvent.log(LOG, Logger.Level.INFO, "password.rehashed", "user", LogMask.username(credentials.username()));
+        } catch (RuntimeException e) {
+            LogEvent.log(LOG, Logger.Level.WARN, "password.rehash.failed", "user",
+                    LogMask.username(credentials.username()), "error", e.getMessage());
+        }
+    }
+
+    private static String outcome(Optional<String> token, Throwable error) {
+        if (error == null)
+            return token.isPresent() ? "success" : "invalid";
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RejectedExecutionException ? "rejected" : "error";
+    }
+
+    private Timer loginTimer(String outcome) {
+        return Timer.builder("portfolio.auth.login")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder("portfolio.auth.login.phase")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.sebastian.portfolio.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Pool dedicado y acotado para el trabajo criptográfico del login (bcrypt y
+ * firma de JWT). Así un pico de logins no ocupa los hilos de E/S ni el pool
+ * de workers compartido: con la cola llena las tareas se rechazan al momento
+ * en lugar de acumular latencia.
+ */
+@ApplicationScoped
+public class CredentialExecutor {
+    private final MeterRegistry registry;
+
+    @ConfigProperty(name = "portfolio.auth.executor.threads")
+    Optional<Integer> threads;
+
+    @ConfigProperty(name = "portfolio.auth.executor.queue-capacity", defaultValue = "32")
+    int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private Timer queueWait;
+
+    public CredentialExecutor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @PostConstruct
+    void start() {
+        int size = threads.orElse(Runtime.getRuntime().availableProcessors());
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), task -> {
+                    Thread thread = new Thread(task, "credential-worker-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "credential", Tags.empty()).bindTo(registry);
+        queueWait = Timer.builder("portfolio.auth.executor.queue.wait")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * Ejecuta la tarea en el pool. Si está saturado, el resultado falla con
+     * {@link RejectedExecutionException}.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sebastian.portfolio.infrastructure.security;
+
+import io.quarkus.elytron.security.common.BcryptUtil;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Hash de contraseñas con bcrypt. Todas las operaciones son intensivas en CPU
+ * y deben ejecutarse en {@link CredentialExecutor}, nunca en los hilos de E/S.
+ *
+ * Las contraseñas guardadas en texto plano (anteriores a bcrypt) se siguen
+ * aceptando para que {@link AuthenticationService} las migre en el login.
+ */
+@ApplicationScoped
+public class PasswordHasher {
+    private static final String BCRYPT_PREFIX = "$2";
+
+    @ConfigProperty(name = "portfolio.auth.bcrypt-cost", defaultValue = "12")
+    int cost;
+
+    private volatile String dummyHash;
+
+    public String hash(String password) {
+        return BcryptUtil.bcryptHash(password, cost);
+    }
+
+    public boolean matches(String password, String stored) {
+        if (isBcrypt(stored))
+            return BcryptUtil.matches(password, stored);
+        // Valor heredado en texto plano: comparación en tiempo constante.
+        return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                stored.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Indica si el valor guardado está en texto plano o con un coste menor al configurado. */
+    public boolean needsRehash(String stored) {
+        return !isBcrypt(stored) || costOf(stored) < cost;
+    }
+
+    /**
+     * Verificación contra un hash ficticio para usuarios inexistentes: iguala
+     * el tiempo de respuesta y no revela qué nombres de usuario existen.
+     */
+    public void simulateMatch(String password) {
+        String hash = dummyHash;
+        if (hash == null)
+            dummyHash = hash = hash(UUID.randomUUID().toString());
+        BcryptUtil.matches(password, hash);
+    }
+
+    private static boolean isBcrypt(String stored) {
+        return stored.startsWith(BCRYPT_PREFIX);
+    }
+
+    // Formato modular: $2a$12$<sal+hash>, el coste son los dos dígitos tras el segundo '$'.
+    private static int costOf(String stored) {
+        try {
+            return Integer.parseInt(stored.substring(4, 6));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+}
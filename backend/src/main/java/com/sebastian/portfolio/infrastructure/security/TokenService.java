@@ -1,18 +1,78 @@
 package com.sebastian.portfolio.infrastructure.security;
 
+import com.sebastian.portfolio.infrastructure.logging.LogEvent;
+import com.sebastian.portfolio.infrastructure.logging.LogMask;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.util.KeyUtils;
+import io.smallrye.jwt.util.ResourceUtils;
 import jakarta.enterprise.context.ApplicationScoped;
-import java.util.HashSet;
-import java.util.Arrays;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 
+/**
+ * Emite los JWT de sesión. La clave privada se lee y se parsea una sola vez;
+ * {@code sign()} sin argumentos la resolvería de nuevo en cada token.
+ * Cada emisión se mide con {@code portfolio.jwt.issued}.
+ */
 @ApplicationScoped
 public class TokenService {
+    private static final String ISSUER = "https://sebastian-portfolio.com";
+    private static final String DEFAULT_KEY_LOCATION = "privateKey.pem";
+    private static final Logger LOG = Logger.getLogger(TokenService.class);
+
+    @ConfigProperty(name = "smallrye.jwt.sign.key.content")
+    Optional<String> keyContent;
+
+    @ConfigProperty(name = "smallrye.jwt.sign.key.location")
+    Optional<String> keyLocation;
+
+    private final Timer issued;
+    private volatile PrivateKey signingKey;
+
+    public TokenService(MeterRegistry registry) {
+        this.issued = Timer.builder("portfolio.jwt.issued").register(registry);
+    }
+
     public String generateToken(String username, String role) {
-        System.out.println("Generando token para: " + username + " con rol: " + role);
-        return Jwt.issuer("https://sebastian-portfolio.com")
+        LogEvent.log(LOG, Logger.Level.DEBUG, "token.issued", "user", LogMask.username(username), "role", role);
+        return issued.record(() -> Jwt.issuer(ISSUER)
                 .upn(username)
-                .groups(new HashSet<>(Arrays.asList(role)))
+                .groups(Set.of(role))
                 .expiresIn(3600) // 1 hour
-                .sign();
+                .sign(signingKey()));
+    }
+
+    private PrivateKey signingKey() {
+        PrivateKey key = signingKey;
+        if (key == null) {
+            synchronized (this) {
+                key = signingKey;
+                if (key == null)
+                    signingKey = key = loadSigningKey();
+            }
+        }
+        return key;
+    }
+
+    // PEM en línea (variable SMALLRYE_JWT_SIGN_KEY) o, si falta, el fichero privateKey.pem.
+    private PrivateKey loadSigningKey() {
+        try {
+            Optional<String> content = keyContent.filter(k -> !k.isBlank() && !"MISSING".equals(k));
+            String pem = content.isPresent()
+                    ? content.get()
+                    : ResourceUtils.readResource(keyLocation.orElse(DEFAULT_KEY_LOCATION));
+            if (pem == null)
+                throw new IllegalStateException("No hay clave de firma JWT configurada");
+            return KeyUtils.decodePrivateKey(pem);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo cargar la clave de firma JWT", e);
+        }
     }
 }
@@ -0,0 +1,27 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta el cuerpo bloqueante de un endpoint fuera del event loop: en un hilo
+ * virtual si quarkus.virtual-threads.enabled=true y el JDK los soporta (21+),
+ * o en el pool de workers en caso contrario. Se decide al arrancar, no al
+ * compilar: @RunOnVirtualThread rompe el build con JDK 17.
+ */
+@ApplicationScoped
+public class BlockingDispatcher {
+    private final ExecutorService executor;
+
+    public BlockingDispatcher(@VirtualThreads ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /** El executor conserva el contexto Vert.x y el de la petición. */
+    public <T> Uni<T> submit(Supplier<T> task) {
+        return Uni.createFrom().item(task).runSubscriptionOn(executor);
+    }
+}
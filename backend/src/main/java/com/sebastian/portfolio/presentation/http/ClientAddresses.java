@@ -0,0 +1,96 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.netty.util.NetUtil;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Identifica al cliente de una petición para la limitación de peticiones.
+ *
+ * X-Forwarded-For solo se tiene en cuenta si el par TCP es un proxy de
+ * confianza. Como cada proxy añade su salto al final, se recorre de derecha a
+ * izquierda y se toma la primera dirección que no es de confianza: la que
+ * escribió el proxy más cercano. Las entradas anteriores las controla el
+ * cliente.
+ */
+final class ClientAddresses {
+    private final List<Cidr> trustedProxies;
+
+    ClientAddresses(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream().map(String::trim).filter(s -> !s.isEmpty())
+                .map(Cidr::parse).toList();
+    }
+
+    String resolve(String peer, List<String> xForwardedFor) {
+        if (peer == null)
+            return "unknown";
+        if (!isTrusted(peer) || xForwardedFor.isEmpty())
+            return peer;
+
+        String[] hops = String.join(",", xForwardedFor).split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = stripPort(hops[i].trim());
+            if (!hop.isEmpty() && !isTrusted(hop))
+                return hop;
+        }
+        return peer;
+    }
+
+    boolean isTrusted(String address) {
+        byte[] bytes = NetUtil.createByteArrayFromIpAddressString(address);
+        if (bytes == null)
+            return false;
+        for (Cidr cidr : trustedProxies) {
+            if (cidr.contains(bytes))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Red /24 (IPv4) o /48 (IPv6) de la dirección. Agrupa a los clientes nuevos
+     * cuando la tabla de clientes está llena.
+     */
+    static String prefix(String address) {
+        byte[] bytes = NetUtil.createByteArrayFromIpAddressString(address);
+        if (bytes == null)
+            return address;
+        int bits = bytes.length == 4 ? 24 : 48;
+        return NetUtil.bytesToIpAddress(mask(bytes, bits)) + "/" + bits;
+    }
+
+    // "1.2.3.4:80" -> "1.2.3.4", "[::1]:80" -> "::1"
+    private static String stripPort(String hop) {
+        if (hop.startsWith("[")) {
+            int end = hop.indexOf(']');
+            return end < 0 ? hop : hop.substring(1, end);
+        }
+        int colon = hop.indexOf(':');
+        return colon >= 0 && colon == hop.lastIndexOf(':') ? hop.substring(0, colon) : hop;
+    }
+
+    private static byte[] mask(byte[] address, int bits) {
+        byte[] masked = Arrays.copyOf(address, address.length);
+        for (int i = 0; i < masked.length; i++) {
+            int keep = Math.min(Math.max(bits - i * 8, 0), 8);
+            masked[i] &= (byte) (0xFF00 >> keep);
+        }
+        return masked;
+    }
+
+    record Cidr(byte[] network, int bits) {
+        static Cidr parse(String value) {
+            int slash = value.indexOf('/');
+            String address = slash < 0 ? value : value.substring(0, slash);
+            byte[] bytes = NetUtil.createByteArrayFromIpAddressString(address);
+            if (bytes == null)
+                throw new IllegalArgumentException("Proxy de confianza no válido: " + value);
+            int bits = slash < 0 ? bytes.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            return new Cidr(mask(bytes, bits), bits);
+        }
+
+        boolean contains(byte[] address) {
+            return address.length == network.length && Arrays.equals(mask(address, bits), network);
+        }
+    }
+}
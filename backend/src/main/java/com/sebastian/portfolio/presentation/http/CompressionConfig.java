@@ -0,0 +1,26 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Variantes gzip y brotli precalculadas para los GET públicos.
+ */
+@ConfigMapping(prefix = "portfolio.compression")
+public interface CompressionConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    /** Por debajo de este tamaño (bytes) se sirve sin comprimir. */
+    @WithDefault("1024")
+    int minSize();
+
+    /** Nivel gzip (1-9): solo se paga al cambiar los datos. */
+    @WithDefault("9")
+    int gzipLevel();
+
+    /** Calidad brotli (0-11). */
+    @WithDefault("11")
+    int brotliQuality();
+}
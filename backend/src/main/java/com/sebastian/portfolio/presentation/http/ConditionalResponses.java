@@ -0,0 +1,136 @@
+package com.sebastian.portfolio.presentation.http;
+
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.application.readmodel.PortfolioReadModel;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Construye respuestas GET condicionales para el contenido público.
+ *
+ * El ETag se deriva de la versión de contenido de la sección en el modelo de
+ * lectura más una marca del arranque, de modo que un reinicio nunca reutiliza
+ * un ETag con contenido distinto. Si el cliente envía un If-None-Match vigente
+ * se responde 304 sin volver a serializar el cuerpo.
+ *
+ * Con el modelo de lectura habilitado el cuerpo sale de {@link EncodedBodies}:
+ * ya serializado y, según Accept-Encoding, en gzip o brotli (con
+ * {@code Vary: Accept-Encoding} y un ETag distinto por codificación servida).
+ */
+@ApplicationScoped
+public class ConditionalResponses {
+    private final PortfolioReadModel readModel;
+    private final EncodedBodies encodedBodies;
+    private final HttpHeaders headers;
+    private final boolean enabled;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<ContentSection, HttpCacheConfig.Policy> policies = new EnumMap<>(ContentSection.class);
+    private final Map<ContentSection, String> cacheControl = new EnumMap<>(ContentSection.class);
+
+    /** @param headers cabeceras de la petición en curso (proxy de ámbito request) */
+    public ConditionalResponses(PortfolioReadModel readModel, EncodedBodies encodedBodies, HttpHeaders headers,
+            HttpCacheConfig config) {
+        this.readModel = readModel;
+        this.encodedBodies = encodedBodies;
+        this.headers = headers;
+        this.enabled = config.enabled();
+        policies.put(ContentSection.PROJECTS, config.projects());
+        policies.put(ContentSection.LEARNING_TOOLS, config.learningTools());
+        policies.put(ContentSection.PROFILE, config.profile());
+        policies.forEach((section, policy) -> cacheControl.put(section,
+                header(policy.maxAge(), policy.staleWhileRevalidate())));
+    }
+
+    public Uni<Response> okAsync(Request request, ContentSection section, Supplier<Uni<?>> body) {
+        return okAsync(request, section, "", body);
+    }
+
+    /**
+     * Debe llamarse desde el hilo del método del recurso (lee las cabeceras de
+     * la petición). Sin el modelo de lectura, el 304 se resuelve sin
+     * suscribirse al cuerpo; con él, el cuerpo codificado suele estar ya en
+     * memoria.
+     *
+     * @param variant distingue representaciones de la misma sección (p. ej. el id
+     *                de un proyecto concreto)
+     */
+    public Uni<Response> okAsync(Request request, ContentSection section, String variant, Supplier<Uni<?>> body) {
+        return respond(request, EncodedBodies.key(section, variant), EnumSet.of(section),
+                cacheControl.get(section), body);
+    }
+
+    /**
+     * Respuesta que reúne varias secciones: el ETag cambia con una escritura en
+     * cualquiera de ellas y se aplica la política de caché más corta.
+     */
+    public Uni<Response> okAsync(Request request, Set<ContentSection> sections, Supplier<Uni<?>> body) {
+        String key = sections.stream().map(section -> EncodedBodies.key(section, "")).collect(Collectors.joining("+"));
+        int maxAge = sections.stream().mapToInt(section -> policies.get(section).maxAge()).min().orElse(0);
+        int staleWhileRevalidate = sections.stream()
+                .mapToInt(section -> policies.get(section).staleWhileRevalidate()).min().orElse(0);
+        return respond(request, key, sections, header(maxAge, staleWhileRevalidate), body);
+    }
+
+    private Uni<Response> respond(Request request, String key, Set<ContentSection> sections, String cacheControl,
+            Supplier<Uni<?>> body) {
+        // Las versiones se leen antes que el cuerpo: si hay una escritura en medio, el
+        // ETag queda atrasado y el cliente simplemente vuelve a descargar.
+        String versions = sections.stream()
+                .map(section -> Long.toString(readModel.version(section)))
+                .collect(Collectors.joining("."));
+        if (readModel.isEnabled())
+            return respondEncoded(request, key, versions, cacheControl, body);
+
+        if (!enabled)
+            return body.get().map(entity -> Response.ok(entity).build());
+        EntityTag etag = etag(key, versions, EncodedBodies.Encoding.IDENTITY);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        Uni<Response.ResponseBuilder> builder = notModified != null
+                ? Uni.createFrom().item(notModified)
+                : body.get().map(entity -> Response.ok(entity));
+        return builder.map(b -> b.tag(etag).header(HttpHeaders.CACHE_CONTROL, cacheControl).build());
+    }
+
+    // El sufijo del ETag es la codificación que de verdad se sirve, y esa depende
+    // del cuerpo (por debajo de min-size no hay gzip ni brotli): se calcula con la
+    // entrada ya codificada, que en el caso habitual está en memoria.
+    private Uni<Response> respondEncoded(Request request, String key, String versions, String cacheControl,
+            Supplier<Uni<?>> body) {
+        EncodedBodies.Encoding requested = encodedBodies.negotiate(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        return encodedBodies.get(key, versions, body).map(encoded -> {
+            EncodedBodies.Encoding encoding = encoded.effective(requested);
+            if (!enabled)
+                return encodedOk(encoded, encoding).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+            EntityTag etag = etag(key, versions, encoding);
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            return (notModified != null ? notModified : encodedOk(encoded, encoding))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .tag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        });
+    }
+
+    private EntityTag etag(String key, String versions, EncodedBodies.Encoding encoding) {
+        return new EntityTag(key + "-" + epoch + "-" + versions + (encoding.header == null ? "" : "-" + encoding.header));
+    }
+
+    private static Response.ResponseBuilder encodedOk(EncodedBodies.Encoded encoded, EncodedBodies.Encoding encoding) {
+        Response.ResponseBuilder builder = Response.ok(encoded.bytes(encoding));
+        return encoding.header == null ? builder : builder.header(HttpHeaders.CONTENT_ENCODING, encoding.header);
+    }
+
+    private static String header(int maxAge, int staleWhileRevalidate) {
+        return "public, max-age=" + maxAge + ", stale-while-revalidate=" + staleWhileRevalidate;
+    }
+}
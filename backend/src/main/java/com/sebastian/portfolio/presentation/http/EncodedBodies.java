@@ -0,0 +1,237 @@
+package com.sebastian.portfolio.presentation.http;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ImageMode;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.jboss.logging.Logger;
+
+/**
+ * Cuerpos JSON de los GET públicos ya serializados y comprimidos (gzip y
+ * brotli). Cada entrada guarda las versiones de contenido de las que salió:
+ * solo se regenera cuando una escritura las cambia, así que servir una
+ * respuesta comprimida no cuesta CPU de compresión.
+ */
+@ApplicationScoped
+public class EncodedBodies {
+    private static final Logger LOG = Logger.getLogger(EncodedBodies.class);
+
+    public enum Encoding {
+        BROTLI("br"), GZIP("gzip"), IDENTITY(null);
+
+        /** Valor de Content-Encoding, o {@code null} sin compresión. */
+        public final String header;
+
+        Encoding(String header) {
+            this.header = header;
+        }
+    }
+
+    /** Representaciones de un mismo cuerpo; una variante ausente es {@code null}. */
+    public record Encoded(byte[] identity, byte[] gzip, byte[] brotli) {
+        public Encoding effective(Encoding requested) {
+            return switch (requested) {
+                case BROTLI -> brotli != null ? Encoding.BROTLI : effective(Encoding.GZIP);
+                case GZIP -> gzip != null ? Encoding.GZIP : Encoding.IDENTITY;
+                case IDENTITY -> Encoding.IDENTITY;
+            };
+        }
+
+        public byte[] bytes(Encoding encoding) {
+            return switch (encoding) {
+                case BROTLI -> brotli;
+                case GZIP -> gzip;
+                case IDENTITY -> identity;
+            };
+        }
+    }
+
+    private record Entry(String versions, Encoded encoded) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CompressionConfig config;
+    private final boolean brotliAvailable;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Encoded>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public EncodedBodies(ObjectMapper objectMapper, CompressionConfig config, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.config = config;
+        // La biblioteca nativa de brotli4j no se carga desde el ejecutable nativo.
+        boolean nativeImage = ImageMode.current() == ImageMode.NATIVE_RUN;
+        this.brotliAvailable = config.enabled() && !nativeImage && Brotli4jLoader.isAvailable();
+        if (config.enabled() && !brotliAvailable)
+            LOG.warn("Brotli no disponible en esta plataforma; solo se precalcula gzip: "
+                    + (nativeImage ? "ejecutable nativo" : Brotli4jLoader.getUnavailabilityCause()));
+        this.hits = Counter.builder("portfolio.encoded.bodies.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("portfolio.encoded.bodies.requests").tag("result", "miss").register(registry);
+    }
+
+    /**
+     * Codificación preferida según Accept-Encoding entre las que se
+     * precalculan: brotli, gzip o ninguna.
+     */
+    public Encoding negotiate(String acceptEncoding) {
+        if (!config.enabled() || acceptEncoding == null)
+            return Encoding.IDENTITY;
+        double brotli = 0, gzip = 0, any = 0;
+        boolean brotliListed = false, gzipListed = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(tokens);
+            switch (coding) {
+                case "br" -> {
+                    brotli = q;
+                    brotliListed = true;
+                }
+                case "gzip", "x-gzip" -> {
+                    gzip = q;
+                    gzipListed = true;
+                }
+                case "*" -> any = q;
+                default -> {
+                }
+            }
+        }
+        // "*" cubre las codificaciones que no aparecen por nombre.
+        if (!brotliListed)
+            brotli = any;
+        if (!gzipListed)
+            gzip = any;
+        if (brotliAvailable && brotli > 0 && brotli >= gzip)
+            return Encoding.BROTLI;
+        return gzip > 0 ? Encoding.GZIP : Encoding.IDENTITY;
+    }
+
+    /**
+     * Devuelve el cuerpo de {@code key} para las versiones indicadas, o lo
+     * serializa y comprime (fuera del event loop) si cambiaron.
+     */
+    public Uni<Encoded> get(String key, String versions, Supplier<Uni<?>> body) {
+        Encoded current = current(key, versions);
+        if (current != null) {
+            hits.increment();
+            return Uni.createFrom().item(current);
+        }
+        // Una sola carga por clave y versiones: las peticiones que llegan mientras
+        // tanto esperan ese resultado.
+        String flight = key + "@" + versions;
+        CompletableFuture<Encoded> created = new CompletableFuture<>();
+        CompletableFuture<Encoded> running = inFlight.putIfAbsent(flight, created);
+        if (running != null) {
+            hits.increment();
+            return Uni.createFrom().completionStage(running);
+        }
+        current = current(key, versions);
+        if (current != null) {
+            inFlight.remove(flight, created);
+            hits.increment();
+            return Uni.createFrom().item(current);
+        }
+        misses.increment();
+        // Las versiones se leyeron antes de cargar: si una escritura llega en medio,
+        // la entrada queda con versiones viejas y no se vuelve a servir.
+        body.get()
+                .emitOn(Infrastructure.getDefaultWorkerPool())
+                .map(this::encode)
+                .subscribe().with(encoded -> {
+                    entries.put(key, new Entry(versions, encoded));
+                    inFlight.remove(flight, created);
+                    created.complete(encoded);
+                }, failure -> {
+                    inFlight.remove(flight, created);
+                    created.completeExceptionally(failure);
+                });
+        return Uni.createFrom().completionStage(created);
+    }
+
+    /** Clave de la entrada de una sección y variante (p. ej. {@code projects/42}). */
+    public static String key(ContentSection section, String variant) {
+        return section.name().toLowerCase(Locale.ROOT) + variant;
+    }
+
+    // Un elemento borrado no vuelve a pedirse con esa clave: se libera su cuerpo.
+    void onContentChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ContentChangedEvent event) {
+        if (event.deleted())
+            entries.remove(key(event.section(), "/" + event.id()));
+    }
+
+    private Encoded current(String key, String versions) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.versions().equals(versions) ? entry.encoded() : null;
+    }
+
+    private Encoded encode(Object entity) {
+        byte[] identity;
+        try {
+            identity = objectMapper.writeValueAsBytes(entity);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+        if (!config.enabled() || identity.length < config.minSize())
+            return new Encoded(identity, null, null);
+        return new Encoded(identity, gzip(identity), brotliAvailable ? brotli(identity) : null);
+    }
+
+    private byte[] gzip(byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION, config.gzipLevel())));
+            }
+        }) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] brotli(byte[] identity) {
+        try {
+            return Encoder.compress(identity, new Encoder.Parameters()
+                    .setQuality(config.brotliQuality())
+                    .setMode(Encoder.Mode.TEXT));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuración de caché HTTP (ETag + Cache-Control) por recurso público.
+ */
+@ConfigMapping(prefix = "portfolio.http-cache")
+public interface HttpCacheConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    Policy projects();
+
+    Policy learningTools();
+
+    Policy profile();
+
+    interface Policy {
+        /** Segundos que el cliente puede reutilizar la respuesta sin revalidar. */
+        @WithDefault("0")
+        int maxAge();
+
+        /** Segundos extra en los que puede servir la copia vieja mientras revalida. */
+        @WithDefault("60")
+        int staleWhileRevalidate();
+    }
+}
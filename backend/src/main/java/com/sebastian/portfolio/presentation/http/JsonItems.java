@@ -0,0 +1,37 @@
+package com.sebastian.portfolio.presentation.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Lectura en streaming de cuerpos con muchos elementos: un array JSON o
+ * NDJSON (un objeto por línea). Los elementos se deserializan a medida que se
+ * recorre el iterador, sin cargar el cuerpo entero en memoria.
+ */
+@ApplicationScoped
+public class JsonItems {
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonItems(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Un error de sintaxis a mitad del cuerpo se lanza al avanzar el iterador
+     * (como {@code RuntimeException}).
+     */
+    public <T> Iterator<T> read(InputStream body, Class<T> type) {
+        try {
+            // Un array en la raíz se recorre elemento a elemento, igual que una secuencia NDJSON.
+            return objectMapper.readerFor(type).readValues(body);
+        } catch (IOException e) {
+            throw new BadRequestException("JSON inválido: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sebastian.portfolio.presentation.http;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Un recurso acotado (pool de credenciales, permisos de transacción) está
+ * saturado: 503 con Retry-After en lugar de un 500 genérico.
+ */
+@Provider
+public class OverloadExceptionMapper implements ExceptionMapper<RejectedExecutionException> {
+    @Override
+    public Response toResponse(RejectedExecutionException exception) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, 1)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuración de la limitación de peticiones por cliente.
+ */
+@ConfigMapping(prefix = "portfolio.rate-limit")
+public interface RateLimitConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    /** Número máximo de clientes con estado en memoria por límite. */
+    @WithDefault("10000")
+    int maxClients();
+
+    /**
+     * Proxies (IP o CIDR) cuyo X-Forwarded-For se acepta. Sin valor, la IP del
+     * cliente es siempre la del par TCP.
+     */
+    Optional<List<String>> trustedProxies();
+
+    Map<String, Limit> limits();
+
+    interface Limit {
+        /** Ráfaga máxima: peticiones seguidas que se admiten con el cubo lleno. */
+        int capacity();
+
+        /** Tiempo que tarda en reponerse un token. */
+        Duration refillEvery();
+    }
+}
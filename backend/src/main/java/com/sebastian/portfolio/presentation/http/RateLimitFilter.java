@@ -0,0 +1,61 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.SocketAddress;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import java.util.Map;
+
+/**
+ * Filtro de los endpoints anotados con {@link RateLimited}. Se ejecuta antes
+ * de leer el cuerpo, así que una petición rechazada no llega a la BD ni a
+ * servicios externos. Responde 429 con Retry-After (segundos, redondeado hacia
+ * arriba).
+ */
+@Provider
+@RateLimited
+public class RateLimitFilter implements ContainerRequestFilter {
+    private final RateLimiter rateLimiter;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Context
+    HttpServerRequest httpRequest;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        RateLimited limit = resourceInfo.getResourceMethod().getAnnotation(RateLimited.class);
+        if (limit == null)
+            limit = resourceInfo.getResourceClass().getAnnotation(RateLimited.class);
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(limit.value(), clientAddress());
+        if (!decision.allowed()) {
+            long seconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+            requestContext.abortWith(Response.status(Response.Status.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, seconds)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(Map.of("error", "Demasiadas peticiones, reintenta en " + seconds + " s"))
+                    .build());
+        }
+    }
+
+    // Quarkus toma la primera entrada de X-Forwarded-For, que la escribe el
+    // cliente: se parte del par TCP de la conexión y del salto que añadió el
+    // proxy de confianza.
+    private String clientAddress() {
+        SocketAddress peer = httpRequest.connection() == null ? null : httpRequest.connection().remoteAddress();
+        return rateLimiter.clientAddress(peer == null ? null : peer.hostAddress(),
+                httpRequest.headers().getAll("X-Forwarded-For"));
+    }
+}
@@ -0,0 +1,18 @@
+package com.sebastian.portfolio.presentation.http;
+
+import jakarta.ws.rs.NameBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Aplica limitación de peticiones por cliente a un endpoint. El valor es el
+ * nombre del límite configurado en {@code portfolio.rate-limit.limits.<nombre>}.
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface RateLimited {
+    String value() default "";
+}
@@ -0,0 +1,137 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador de peticiones por cliente basado en token bucket, implementado
+ * con GCRA: el estado de cada cubo es un único instante teórico de llegada
+ * (TAT) en un {@link AtomicLong}, que se actualiza con CAS sin bloqueos.
+ *
+ * Un cubo cuyo TAT ya pasó está lleno, así que puede descartarse sin cambiar
+ * el resultado: así se eliminan periódicamente los clientes inactivos. Si aun
+ * así se alcanza {@code max-clients}, los clientes nuevos comparten un cubo
+ * por red (/24 en IPv4, /48 en IPv6), con la misma cota; si tampoco cabe su
+ * red, se rechazan hasta el siguiente barrido.
+ */
+@ApplicationScoped
+public class RateLimiter {
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    /**
+     * Resultado de una comprobación: si se admite y, si no, cuánto esperar.
+     */
+    public record Decision(boolean allowed, Duration retryAfter) {
+        static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+    }
+
+    private final boolean enabled;
+    private final int maxClients;
+    private final ClientAddresses clientAddresses;
+    private final Map<String, Bucket> buckets = new HashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(RateLimitConfig config, MeterRegistry registry) {
+        this.enabled = config.enabled();
+        this.maxClients = config.maxClients();
+        this.clientAddresses = new ClientAddresses(config.trustedProxies().orElse(List.of()));
+        config.limits().forEach((name, limit) -> buckets.put(name, new Bucket(name, limit, registry)));
+    }
+
+    public Decision tryAcquire(String limitName, String client) {
+        Bucket bucket = buckets.get(limitName);
+        if (!enabled || bucket == null)
+            return Decision.ALLOWED;
+        return bucket.tryAcquire(client);
+    }
+
+    /**
+     * Clave del cliente: el par TCP o, si es un proxy de confianza, el salto de
+     * X-Forwarded-For que añadió ese proxy.
+     */
+    public String clientAddress(String peer, List<String> xForwardedFor) {
+        return clientAddresses.resolve(peer, xForwardedFor);
+    }
+
+    @Scheduled(every = "1m", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void evictIdleClients() {
+        long now = System.nanoTime();
+        lastSweep.set(now);
+        buckets.values().forEach(bucket -> bucket.evictIdle(now));
+    }
+
+    private final class Bucket {
+        private final long emissionInterval;
+        private final long burstTolerance;
+        private final ConcurrentHashMap<String, AtomicLong> clients = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, AtomicLong> prefixes = new ConcurrentHashMap<>();
+        private final Counter rejections;
+
+        Bucket(String name, RateLimitConfig.Limit limit, MeterRegistry registry) {
+            this.emissionInterval = limit.refillEvery().toNanos();
+            this.burstTolerance = emissionInterval * (Math.max(limit.capacity(), 1) - 1);
+            this.rejections = Counter.builder("portfolio.rate.limit.rejections")
+                    .tag("limit", name).register(registry);
+            Gauge.builder("portfolio.rate.limit.clients", clients, Map::size)
+                    .tag("limit", name).register(registry);
+            Gauge.builder("portfolio.rate.limit.prefixes", prefixes, Map::size)
+                    .tag("limit", name).register(registry);
+        }
+
+        Decision tryAcquire(String client) {
+            long now = System.nanoTime();
+            AtomicLong tat = clients.get(client);
+            if (tat == null)
+                tat = register(client, now);
+            if (tat == null) {
+                rejections.increment();
+                return new Decision(false, Duration.ofNanos(Math.max(emissionInterval, SWEEP_INTERVAL_NANOS)));
+            }
+
+            while (true) {
+                long current = tat.get();
+                long start = Math.max(current, now);
+                long wait = start - burstTolerance - now;
+                if (wait > 0) {
+                    rejections.increment();
+                    return new Decision(false, Duration.ofNanos(wait));
+                }
+                if (tat.compareAndSet(current, start + emissionInterval))
+                    return Decision.ALLOWED;
+            }
+        }
+
+        private AtomicLong register(String client, long now) {
+            if (clients.size() >= maxClients) {
+                long last = lastSweep.get();
+                if (now - last > SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now))
+                    evictIdle(now);
+                if (clients.size() >= maxClients)
+                    return registerPrefix(ClientAddresses.prefix(client), now);
+            }
+            return clients.computeIfAbsent(client, k -> new AtomicLong(now));
+        }
+
+        // null si la tabla de redes también está llena
+        private AtomicLong registerPrefix(String prefix, long now) {
+            AtomicLong tat = prefixes.get(prefix);
+            if (tat != null || prefixes.size() >= maxClients)
+                return tat;
+            return prefixes.computeIfAbsent(prefix, k -> new AtomicLong(now));
+        }
+
+        void evictIdle(long now) {
+            clients.values().removeIf(tat -> tat.get() - now <= 0);
+            prefixes.values().removeIf(tat -> tat.get() - now <= 0);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sebastian.portfolio.presentation.http;
+
+import com.sebastian.portfolio.infrastructure.persistence.profiling.SqlProfiler;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Añade {@code Server-Timing: db;dur=<ms>;desc="<n> sentencias"} cuando
+ * {@code portfolio.sql-profiling.enabled} está activo (ver {@link SqlProfiler}).
+ *
+ * Solo cuenta lo que pasa por Hibernate antes de responder: las consultas del
+ * cliente reactivo y las de una respuesta en streaming (exportación de
+ * mensajes) no aparecen.
+ */
+@Provider
+public class SqlProfilingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private final SqlProfiler profiler;
+
+    public SqlProfilingFilter(SqlProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (profiler.enabled())
+            profiler.start();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!profiler.enabled())
+            return;
+        String timing = profiler.finish(requestContext.getMethod() + " "
+                + requestContext.getUriInfo().getRequestUri().getPath());
+        if (timing == null)
+            return;
+        responseContext.getHeaders().add("Server-Timing", timing);
+        // El frontend se sirve desde otro origen: sin esto el navegador oculta la cabecera a la Resource Timing API.
+        responseContext.getHeaders().putSingle("Timing-Allow-Origin", "*");
+    }
+}
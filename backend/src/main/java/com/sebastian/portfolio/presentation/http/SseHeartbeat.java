@@ -0,0 +1,26 @@
+package com.sebastian.portfolio.presentation.http;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Latido compartido por todas las conexiones SSE: un único temporizador en
+ * lugar de uno por conexión. Mantiene abiertas las conexiones inactivas a
+ * través de proxies y balanceadores que cortan tras unos segundos sin datos.
+ */
+@ApplicationScoped
+public class SseHeartbeat {
+    private final BroadcastProcessor<Long> processor = BroadcastProcessor.create();
+
+    /** Un suscriptor que no da abasto pierde latidos, no la conexión. */
+    public Multi<Long> subscribe() {
+        return processor.onOverflow().drop();
+    }
+
+    @Scheduled(every = "${portfolio.events.heartbeat:25s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void beat() {
+        processor.onNext(System.currentTimeMillis());
+    }
+}
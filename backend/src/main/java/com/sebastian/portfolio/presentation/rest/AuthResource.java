@@ -1,44 +1,59 @@
 package com.sebastian.portfolio.presentation.rest;
 
 import com.sebastian.portfolio.application.dto.LoginDTO;
-import com.sebastian.portfolio.infrastructure.persistence.repository.PanacheUserRepository;
-import com.sebastian.portfolio.infrastructure.security.TokenService;
+import com.sebastian.portfolio.infrastructure.logging.LogEvent;
+import com.sebastian.portfolio.infrastructure.logging.LogMask;
+import com.sebastian.portfolio.infrastructure.logging.LogSampler;
+import com.sebastian.portfolio.infrastructure.security.AuthenticationService;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import com.sebastian.portfolio.presentation.http.RateLimited;
+import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.Map;
+import org.jboss.logging.Logger;
 
 @Path("/auth")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class AuthResource {
-    private final PanacheUserRepository userRepository;
-    private final TokenService tokenService;
+    private static final Logger LOG = Logger.getLogger(AuthResource.class);
 
-    public AuthResource(PanacheUserRepository userRepository, TokenService tokenService) {
-        this.userRepository = userRepository;
-        this.tokenService = tokenService;
+    private final AuthenticationService authenticationService;
+    private final BlockingDispatcher blocking;
+    private final LogSampler sampler;
+
+    public AuthResource(AuthenticationService authenticationService, BlockingDispatcher blocking,
+            LogSampler sampler) {
+        this.authenticationService = authenticationService;
+        this.blocking = blocking;
+        this.sampler = sampler;
     }
 
+    /**
+     * La búsqueda del usuario bloquea, así que se despacha a un hilo virtual
+     * (o a un worker si quarkus.virtual-threads.enabled=false); el
+     * hash y la firma se delegan al pool de credenciales. Si ese pool está
+     * saturado, OverloadExceptionMapper responde 503. Los fallos se registran
+     * muestreados: un ataque de fuerza bruta no satura el log.
+     */
     @POST
     @Path("/login")
-    public Response login(LoginDTO loginDTO) {
-        System.out.println("Intento de login para usuario: " + loginDTO.username());
-
-        return userRepository.findByUsername(loginDTO.username())
-                .map(user -> {
-                    if (user.password.equals(loginDTO.password())) {
-                        System.out.println("Login exitoso para: " + loginDTO.username());
-                        String token = tokenService.generateToken(user.username, user.role);
-                        return Response.ok(Map.of("token", token)).build();
-                    } else {
-                        System.out.println("Contraseña incorrecta para: " + loginDTO.username());
-                        return Response.status(Response.Status.UNAUTHORIZED).build();
-                    }
-                })
-                .orElseGet(() -> {
-                    System.out.println("Usuario no encontrado: " + loginDTO.username());
-                    return Response.status(Response.Status.UNAUTHORIZED).build();
-                });
+    @RateLimited("login")
+    public Uni<Response> login(LoginDTO loginDTO) {
+        return blocking.submit(() -> authenticationService.login(loginDTO.username(), loginDTO.password()))
+                .flatMap(stage -> Uni.createFrom().completionStage(stage))
+                .map(token -> token
+                        .map(t -> {
+                            LogEvent.log(LOG, Logger.Level.INFO, "login.succeeded", "user",
+                                    LogMask.username(loginDTO.username()));
+                            return Response.ok(Map.of("token", t)).build();
+                        })
+                        .orElseGet(() -> {
+                            sampler.log(LOG, Logger.Level.WARN, "login.failed",
+                                    () -> new Object[] { "user", LogMask.username(loginDTO.username()) });
+                            return Response.status(Response.Status.UNAUTHORIZED).build();
+                        }));
     }
 }
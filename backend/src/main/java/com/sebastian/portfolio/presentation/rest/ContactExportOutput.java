@@ -0,0 +1,125 @@
+package com.sebastian.portfolio.presentation.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sebastian.portfolio.application.dto.ContactDTO;
+import com.sebastian.portfolio.domain.port.in.ContactUseCase;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Cuerpo de la exportación de mensajes. Cada fila se escribe en cuanto sale
+ * del cursor de la BD, así que nunca hay más de un mensaje en memoria.
+ */
+class ContactExportOutput implements StreamingOutput {
+    // Filas entre dos flush explícitos; coincide con el fetch size del cursor
+    private static final int FLUSH_EVERY = 500;
+
+    enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv; charset=UTF-8");
+
+        final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+    }
+
+    private final ContactUseCase contactService;
+    private final ObjectMapper objectMapper;
+    private final Format format;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    ContactExportOutput(ContactUseCase contactService, ObjectMapper objectMapper, Format format,
+            LocalDateTime from, LocalDateTime to) {
+        this.contactService = contactService;
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try {
+            if (format == Format.NDJSON) {
+                writeNdjson(output);
+            } else {
+                writeCsv(output);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(OutputStream output) throws IOException {
+        // writeValue hace flush tras cada fila si FLUSH_AFTER_WRITE_VALUE está
+        // activo; aquí el flush va por lotes
+        ObjectWriter rows = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        int[] written = { 0 };
+        contactService.exportMessages(from, to, message -> {
+            try {
+                rows.writeValue(generator, message);
+                generator.writeRaw('\n');
+                if (++written[0] % FLUSH_EVERY == 0)
+                    generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+    }
+
+    private void writeCsv(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write("id,name,email,message,createdAt\r\n");
+        contactService.exportMessages(from, to, message -> {
+            try {
+                writer.write(String.valueOf(message.id()));
+                writer.write(',');
+                writeCsvField(writer, message.name());
+                writer.write(',');
+                writeCsvField(writer, message.email());
+                writer.write(',');
+                writeCsvField(writer, message.message());
+                writer.write(',');
+                writer.write(message.createdAt() == null ? "" : message.createdAt().toString());
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    // RFC 4180. Los valores que empiezan por =, +, -, @, tabulador o retorno de
+    // carro se prefijan con ' para que una hoja de cálculo no los interprete
+    // como fórmulas.
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null)
+            return;
+        writer.write('"');
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0)
+            writer.write('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"')
+                writer.write('"');
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -1,38 +1,95 @@
 package com.sebastian.portfolio.presentation.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sebastian.portfolio.application.dto.ContactDTO;
 import com.sebastian.portfolio.domain.port.in.ContactUseCase;
+import com.sebastian.portfolio.infrastructure.logging.LogMask;
+import com.sebastian.portfolio.infrastructure.logging.LogSampler;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import com.sebastian.portfolio.presentation.http.RateLimited;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.annotation.security.PermitAll;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.jboss.logging.Logger;
 
 @Path("/contact")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @SecurityRequirement(name = "jwt")
 public class ContactResource {
+    private static final Logger LOG = Logger.getLogger(ContactResource.class);
+
     private final ContactUseCase contactService;
+    private final ObjectMapper objectMapper;
+    private final BlockingDispatcher blocking;
+    private final LogSampler sampler;
 
-    public ContactResource(ContactUseCase contactService) {
+    public ContactResource(ContactUseCase contactService, ObjectMapper objectMapper, BlockingDispatcher blocking,
+            LogSampler sampler) {
         this.contactService = contactService;
+        this.objectMapper = objectMapper;
+        this.blocking = blocking;
+        this.sampler = sampler;
     }
 
     @POST
     @PermitAll
-    public Response sendMessage(ContactDTO contactDTO) {
-        System.out.println("Recibido mensaje de: " + contactDTO.email());
-        return Response.status(Response.Status.CREATED)
+    @RateLimited("contact")
+    public Uni<Response> sendMessage(ContactDTO contactDTO) {
+        sampler.log(LOG, Logger.Level.INFO, "contact.received", () -> new Object[] { "email", LogMask.email(contactDTO.email()) });
+        return blocking.submit(() -> Response.status(Response.Status.CREATED)
                 .entity(contactService.sendMessage(contactDTO))
-                .build();
+                .build());
     }
 
     @GET
     @RolesAllowed("ADMIN")
-    public List<ContactDTO> getAllMessages() {
-        return contactService.getAllMessages();
+    public Uni<List<ContactDTO>> getAllMessages() {
+        return blocking.submit(contactService::getAllMessages);
+    }
+
+    /**
+     * Exporta los mensajes en streaming como NDJSON (por defecto) o CSV,
+     * opcionalmente filtrados por createdAt en [from, to) (ISO-8601, ej:
+     * 2025-01-31T00:00:00). La memoria usada no depende del número de filas.
+     * Sigue en un worker: el cursor se recorre al escribir la respuesta, no
+     * dentro del método.
+     */
+    @GET
+    @Path("/export")
+    @RolesAllowed("ADMIN")
+    @Produces({ "application/x-ndjson", "text/csv" })
+    public Response export(@QueryParam("format") @DefaultValue("ndjson") String format,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to) {
+        ContactExportOutput.Format exportFormat;
+        try {
+            exportFormat = ContactExportOutput.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("format debe ser ndjson o csv");
+        }
+        String extension = exportFormat.name().toLowerCase();
+        return Response.ok(new ContactExportOutput(contactService, objectMapper, exportFormat,
+                parseDateTime("from", from), parseDateTime("to", to)))
+                .type(exportFormat.mediaType)
+                .header("Content-Disposition", "attachment; filename=\"contact-messages." + extension + "\"")
+                .build();
+    }
+
+    private static LocalDateTime parseDateTime(String name, String value) {
+        if (value == null || value.isBlank())
+            return null;
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(name + " debe ser una fecha ISO-8601 (ej: 2025-01-31T00:00:00)");
+        }
     }
 }
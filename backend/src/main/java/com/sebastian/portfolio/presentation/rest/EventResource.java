@@ -0,0 +1,53 @@
+package com.sebastian.portfolio.presentation.rest;
+
+import com.sebastian.portfolio.application.event.ContentChangeFeed;
+import com.sebastian.portfolio.presentation.http.SseHeartbeat;
+import io.smallrye.mutiny.Multi;
+import jakarta.annotation.security.PermitAll;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+
+/**
+ * Flujo Server-Sent Events con los cambios confirmados del contenido público.
+ */
+@Path("/events")
+public class EventResource {
+    private final ContentChangeFeed feed;
+    private final SseHeartbeat heartbeat;
+
+    public EventResource(ContentChangeFeed feed, SseHeartbeat heartbeat) {
+        this.feed = feed;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Un evento {@code change} por escritura ({@code {entity, id, version, change}})
+     * y un comentario {@code ping} periódico. La conexión no retiene ningún
+     * hilo mientras está inactiva. Si el servidor corta el flujo (reinicio o
+     * cliente demasiado lento), EventSource reconecta solo; los avisos
+     * intermedios se pierden, así que el cliente debe recargar lo que muestre.
+     */
+    @GET
+    @PermitAll
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public Multi<OutboundSseEvent> stream(@Context Sse sse) {
+        // El latido no termina nunca: al acabar los cambios llega la marca de fin y
+        // se cierra la respuesta, para que EventSource reconecte.
+        OutboundSseEvent end = sse.newEventBuilder().comment("end").build();
+        Multi<OutboundSseEvent> changes = Multi.createBy().concatenating().streams(
+                feed.subscribe().map(change -> sse.newEventBuilder()
+                        .name("change")
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(change)
+                        .build()),
+                Multi.createFrom().item(end));
+        return Multi.createBy().merging()
+                .streams(changes, heartbeat.subscribe().map(beat -> sse.newEventBuilder().comment("ping").build()))
+                .select().first(event -> event != end);
+    }
+}
@@ -1,16 +1,46 @@
 package com.sebastian.portfolio.presentation.rest;
 
+import io.agroal.api.AgroalDataSource;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Map;
 
+/**
+ * Estado del backend. Comprueba que la base de datos responde: si no, 503,
+ * para que el proxy de despliegue deje de enviar tráfico a esta instancia.
+ */
 @Path("/health")
 @Produces(MediaType.APPLICATION_JSON)
 public class HealthResource {
+    private static final int DB_TIMEOUT_SECONDS = 2;
+
+    private final AgroalDataSource dataSource;
+
+    public HealthResource(AgroalDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
     @GET
-    public Map<String, String> health() {
-        return Map.of("status", "UP", "message", "Backend is running and CORS is enabled");
+    public Response health() {
+        boolean databaseUp = databaseUp();
+        return Response.status(databaseUp ? Response.Status.OK : Response.Status.SERVICE_UNAVAILABLE)
+                .entity(Map.of(
+                        "status", databaseUp ? "UP" : "DOWN",
+                        "database", databaseUp ? "UP" : "DOWN",
+                        "message", "Backend is running and CORS is enabled"))
+                .build();
+    }
+
+    private boolean databaseUp() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(DB_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,73 @@
+package com.sebastian.portfolio.presentation.rest;
+
+import com.sebastian.portfolio.infrastructure.image.ImageFetchException;
+import com.sebastian.portfolio.infrastructure.image.ImageProxy;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.PermitAll;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import java.util.regex.Pattern;
+
+/**
+ * Proxy de las imágenes de proyectos y perfil, redimensionadas y cacheadas.
+ */
+@Path("/images")
+public class ImageResource {
+    static final int MAX_WIDTH = 4096;
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{16}");
+    // El hash identifica la URL de origen: una variante nunca cambia de contenido.
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // La redirección al original dura lo que se recuerda el fallo (failure-ttl por defecto).
+    private static final String FALLBACK_CACHE_CONTROL = "public, max-age=300";
+
+    private final ImageProxy imageProxy;
+    private final BlockingDispatcher blocking;
+
+    public ImageResource(ImageProxy imageProxy, BlockingDispatcher blocking) {
+        this.imageProxy = imageProxy;
+        this.blocking = blocking;
+    }
+
+    /**
+     * Imagen cuyo hash es el de su URL de origen (ver {@code ImageSources}),
+     * con un ancho de al menos {@code w} píxeles. El fichero se envía desde la
+     * caché en disco sin copiarlo a memoria. Si no se puede generar (origen
+     * caído o que redirige, formato que ImageIO no lee como WebP, SVG o AVIF),
+     * responde 302 a la URL original para que el navegador la cargue directamente.
+     * Acceso: Público (PermitAll).
+     */
+    @GET
+    @Path("/{hash}")
+    @PermitAll
+    public Uni<Response> get(@PathParam("hash") String hash, @QueryParam("w") Integer width) {
+        int requested = width == null ? MAX_WIDTH : width;
+        if (requested < 1 || requested > MAX_WIDTH) {
+            throw new BadRequestException("w debe estar entre 1 y " + MAX_WIDTH);
+        }
+        if (!HASH.matcher(hash).matches()) {
+            return Uni.createFrom().item(Response.status(Response.Status.NOT_FOUND).build());
+        }
+        return blocking.submit(() -> {
+            try {
+                return imageProxy.variant(hash, requested)
+                        .map(variant -> Response.ok(variant.file(), variant.contentType())
+                                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                                .build())
+                        .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+            } catch (ImageFetchException e) {
+                return imageProxy.source(hash)
+                        .map(source -> Response.status(Response.Status.FOUND)
+                                .location(source)
+                                .header(HttpHeaders.CACHE_CONTROL, FALLBACK_CACHE_CONTROL)
+                                .build())
+                        .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+            }
+        });
+    }
+}
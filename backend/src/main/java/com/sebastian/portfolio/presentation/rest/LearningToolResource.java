@@ -1,13 +1,23 @@
 package com.sebastian.portfolio.presentation.rest;
 
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
 import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.application.event.ContentSection;
 import com.sebastian.portfolio.domain.port.in.LearningToolUseCase;
+import com.sebastian.portfolio.domain.port.in.ReactiveLearningToolUseCase;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import com.sebastian.portfolio.presentation.http.ConditionalResponses;
+import com.sebastian.portfolio.presentation.http.JsonItems;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.annotation.security.PermitAll;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
-import java.util.List;
+import java.io.InputStream;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
 
 @Path("/learning-tools")
@@ -16,44 +26,71 @@ import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement
 @SecurityRequirement(name = "jwt")
 public class LearningToolResource {
     private final LearningToolUseCase learningToolService;
+    private final ReactiveLearningToolUseCase learningToolQueries;
+    private final ConditionalResponses conditionalResponses;
+    private final BlockingDispatcher blocking;
+    private final JsonItems jsonItems;
 
-    public LearningToolResource(LearningToolUseCase learningToolService) {
+    public LearningToolResource(LearningToolUseCase learningToolService,
+            ReactiveLearningToolUseCase learningToolQueries, ConditionalResponses conditionalResponses,
+            BlockingDispatcher blocking, JsonItems jsonItems) {
         this.learningToolService = learningToolService;
+        this.learningToolQueries = learningToolQueries;
+        this.conditionalResponses = conditionalResponses;
+        this.blocking = blocking;
+        this.jsonItems = jsonItems;
     }
 
     @GET
     @PermitAll
-    public List<LearningToolDTO> getAll() {
-        return learningToolService.getAllTools();
+    public Uni<Response> getAll(@Context Request request) {
+        return conditionalResponses.okAsync(request, ContentSection.LEARNING_TOOLS,
+                learningToolQueries::getAllToolsAsync);
     }
 
     @GET
     @Path("/{id}")
     @PermitAll
-    public LearningToolDTO getById(@PathParam("id") Long id) {
-        return learningToolService.getToolById(id);
+    public Uni<Response> getById(@PathParam("id") Long id, @Context Request request) {
+        return conditionalResponses.okAsync(request, ContentSection.LEARNING_TOOLS, "/" + id,
+                () -> learningToolQueries.getToolByIdAsync(id));
     }
 
     @POST
     @RolesAllowed("ADMIN")
-    public Response create(LearningToolDTO toolDTO) {
-        return Response.status(Response.Status.CREATED)
+    public Uni<Response> create(LearningToolDTO toolDTO) {
+        return blocking.submit(() -> Response.status(Response.Status.CREATED)
                 .entity(learningToolService.createTool(toolDTO))
-                .build();
+                .build());
+    }
+
+    /**
+     * Alta o actualización masiva (array JSON o NDJSON), como
+     * {@code POST /projects/bulk}.
+     */
+    @POST
+    @Path("/bulk")
+    @RolesAllowed("ADMIN")
+    @Consumes({ MediaType.APPLICATION_JSON, JsonItems.NDJSON })
+    @Blocking
+    public BulkImportResultDTO bulk(InputStream body) {
+        return learningToolService.importTools(jsonItems.read(body, LearningToolDTO.class));
     }
 
     @PUT
     @Path("/{id}")
     @RolesAllowed("ADMIN")
-    public LearningToolDTO update(@PathParam("id") Long id, LearningToolDTO toolDTO) {
-        return learningToolService.updateTool(id, toolDTO);
+    public Uni<LearningToolDTO> update(@PathParam("id") Long id, LearningToolDTO toolDTO) {
+        return blocking.submit(() -> learningToolService.updateTool(id, toolDTO));
     }
 
     @DELETE
     @Path("/{id}")
     @RolesAllowed("ADMIN")
-    public Response delete(@PathParam("id") Long id) {
-        learningToolService.deleteTool(id);
-        return Response.noContent().build();
+    public Uni<Response> delete(@PathParam("id") Long id) {
+        return blocking.submit(() -> {
+            learningToolService.deleteTool(id);
+            return Response.noContent().build();
+        });
     }
 }
@@ -0,0 +1,67 @@
+package com.sebastian.portfolio.presentation.rest;
+
+import com.sebastian.portfolio.application.dto.PortfolioDTO;
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.application.service.ProfileService;
+import com.sebastian.portfolio.domain.port.in.ReactiveLearningToolUseCase;
+import com.sebastian.portfolio.domain.port.in.ReactiveProjectUseCase;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import com.sebastian.portfolio.presentation.http.ConditionalResponses;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.PermitAll;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Perfil, proyectos y herramientas en una sola respuesta para el primer
+ * render del frontend.
+ */
+@Path("/portfolio")
+@Produces(MediaType.APPLICATION_JSON)
+public class PortfolioResource {
+    private static final Set<ContentSection> SECTIONS = EnumSet.allOf(ContentSection.class);
+
+    private final ProfileService profileService;
+    private final ReactiveProjectUseCase projectQueries;
+    private final ReactiveLearningToolUseCase learningToolQueries;
+    private final ConditionalResponses conditionalResponses;
+    private final BlockingDispatcher blocking;
+
+    public PortfolioResource(ProfileService profileService, ReactiveProjectUseCase projectQueries,
+            ReactiveLearningToolUseCase learningToolQueries, ConditionalResponses conditionalResponses,
+            BlockingDispatcher blocking) {
+        this.profileService = profileService;
+        this.projectQueries = projectQueries;
+        this.learningToolQueries = learningToolQueries;
+        this.conditionalResponses = conditionalResponses;
+        this.blocking = blocking;
+    }
+
+    /**
+     * Las tres secciones se cargan en paralelo. El JSON (y sus variantes
+     * comprimidas) se reutiliza hasta que una escritura del admin cambia la
+     * versión de alguna de ellas; el ETag combina las tres versiones.
+     * Acceso: Público (PermitAll).
+     */
+    @GET
+    @PermitAll
+    public Uni<Response> get(@Context Request request) {
+        return conditionalResponses.okAsync(request, SECTIONS, this::load);
+    }
+
+    private Uni<PortfolioDTO> load() {
+        return Uni.combine().all()
+                .unis(blocking.submit(profileService::getProfile),
+                        projectQueries.getAllProjectsAsync(),
+                        learningToolQueries.getAllToolsAsync())
+                .asTuple()
+                .map(loaded -> new PortfolioDTO(loaded.getItem1(), loaded.getItem2(), loaded.getItem3()));
+    }
+}
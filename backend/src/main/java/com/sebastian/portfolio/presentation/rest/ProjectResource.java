@@ -1,13 +1,26 @@
 package com.sebastian.portfolio.presentation.rest;
 
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
 import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.domain.model.ProjectCriteria;
 import com.sebastian.portfolio.domain.port.in.ProjectUseCase;
+import com.sebastian.portfolio.domain.port.in.ReactiveProjectUseCase;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import com.sebastian.portfolio.presentation.http.ConditionalResponses;
+import com.sebastian.portfolio.presentation.http.JsonItems;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.annotation.security.PermitAll;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import java.io.InputStream;
 import java.util.List;
+import java.util.regex.Pattern;
 import org.eclipse.microprofile.openapi.annotations.enums.SecuritySchemeType;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityScheme;
@@ -22,20 +35,85 @@ import org.eclipse.microprofile.openapi.annotations.security.SecurityScheme;
 @SecurityScheme(securitySchemeName = "jwt", type = SecuritySchemeType.HTTP, scheme = "bearer", bearerFormat = "JWT")
 @SecurityRequirement(name = "jwt")
 public class ProjectResource {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    // Cada término recorre el índice por prefijo: se acota el trabajo por consulta
+    static final int MAX_QUERY_LENGTH = 200;
+    static final int MAX_QUERY_TERMS = 8;
+    private static final Pattern QUERY_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final ProjectUseCase projectService;
+    private final ReactiveProjectUseCase projectQueries;
+    private final ConditionalResponses conditionalResponses;
+    private final BlockingDispatcher blocking;
+    private final JsonItems jsonItems;
 
-    public ProjectResource(ProjectUseCase projectService) {
+    public ProjectResource(ProjectUseCase projectService, ReactiveProjectUseCase projectQueries,
+            ConditionalResponses conditionalResponses, BlockingDispatcher blocking, JsonItems jsonItems) {
         this.projectService = projectService;
+        this.projectQueries = projectQueries;
+        this.conditionalResponses = conditionalResponses;
+        this.blocking = blocking;
+        this.jsonItems = jsonItems;
     }
 
     /**
      * Obtiene la lista completa de proyectos.
+     * Responde 304 si el If-None-Match del cliente coincide con el ETag vigente.
+     *
+     * Con cualquiera de los parámetros {@code limit}, {@code after},
+     * {@code architecture} o {@code technology} la respuesta pasa a ser una
+     * página ({@code {items, nextCursor}}) ordenada por id y filtrada en la BD.
+     *
+     * Las lecturas son asíncronas: con el modelo de lectura cargado se responde
+     * desde el event loop; si hay que ir a la BD, el adaptador elegido por
+     * {@code portfolio.persistence.mode} decide si ocupa un worker o no.
      * Acceso: Público (PermitAll).
      */
     @GET
     @PermitAll
-    public List<ProjectDTO> getAll() {
-        return projectService.getAllProjects();
+    public Uni<Response> getAll(@Context Request request,
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") Long after,
+            @QueryParam("architecture") String architecture,
+            @QueryParam("technology") String technology) {
+        if (limit == null && after == null && architecture == null && technology == null) {
+            return conditionalResponses.okAsync(request, ContentSection.PROJECTS, projectQueries::getAllProjectsAsync);
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return projectQueries.getProjectPageAsync(
+                new ProjectCriteria(pageSize, after, blankToNull(architecture), blankToNull(technology)))
+                .map(page -> Response.ok(page).build());
+    }
+
+    /**
+     * Busca proyectos por palabras de título, descripción, problema,
+     * aprendizaje, características y tecnologías, ordenados por relevancia.
+     * Las palabras pueden estar incompletas ("quar" encuentra "Quarkus").
+     * Máximo {@value MAX_QUERY_LENGTH} caracteres y {@value MAX_QUERY_TERMS} términos.
+     * Acceso: Público (PermitAll).
+     */
+    @GET
+    @Path("/search")
+    @PermitAll
+    public List<ProjectDTO> search(@QueryParam("q") String query, @QueryParam("limit") Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("q es obligatorio");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("q no puede superar " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (QUERY_SEPARATORS.splitAsStream(query).filter(term -> !term.isEmpty()).count() > MAX_QUERY_TERMS) {
+            throw new BadRequestException("q no puede tener más de " + MAX_QUERY_TERMS + " términos");
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return projectService.searchProjects(query, size);
     }
 
     /**
@@ -45,20 +123,40 @@ public class ProjectResource {
     @GET
     @Path("/{id}")
     @PermitAll
-    public ProjectDTO getById(@PathParam("id") Long id) {
-        return projectService.getProjectById(id);
+    public Uni<Response> getById(@PathParam("id") Long id, @Context Request request) {
+        return conditionalResponses.okAsync(request, ContentSection.PROJECTS, "/" + id,
+                () -> projectQueries.getProjectByIdAsync(id));
     }
 
     /**
      * Crea un nuevo proyecto en el sistema.
+     * Las escrituras son bloqueantes y corren en un hilo virtual (o en un
+     * worker) a través de {@link BlockingDispatcher}.
      * Acceso: Solo Administrador (ADMIN) con JWT.
      */
     @POST
     @RolesAllowed("ADMIN")
-    public Response create(ProjectDTO projectDTO) {
-        return Response.status(Response.Status.CREATED)
+    public Uni<Response> create(ProjectDTO projectDTO) {
+        return blocking.submit(() -> Response.status(Response.Status.CREATED)
                 .entity(projectService.createProject(projectDTO))
-                .build();
+                .build());
+    }
+
+    /**
+     * Alta o actualización masiva: un array JSON o NDJSON (un proyecto por
+     * línea). Sin id se crea; con id se actualiza, y si no existe falla solo ese
+     * elemento. Se confirma por lotes de {@code portfolio.bulk.chunk-size}.
+     * Devuelve el resultado de cada elemento.
+     * El cuerpo se lee en streaming, así que corre en un worker.
+     * Acceso: Solo Administrador (ADMIN) con JWT.
+     */
+    @POST
+    @Path("/bulk")
+    @RolesAllowed("ADMIN")
+    @Consumes({ MediaType.APPLICATION_JSON, JsonItems.NDJSON })
+    @Blocking
+    public BulkImportResultDTO bulk(InputStream body) {
+        return projectService.importProjects(jsonItems.read(body, ProjectDTO.class));
     }
 
     /**
@@ -68,8 +166,8 @@ public class ProjectResource {
     @PUT
     @Path("/{id}")
     @RolesAllowed("ADMIN")
-    public ProjectDTO update(@PathParam("id") Long id, ProjectDTO projectDTO) {
-        return projectService.updateProject(id, projectDTO);
+    public Uni<ProjectDTO> update(@PathParam("id") Long id, ProjectDTO projectDTO) {
+        return blocking.submit(() -> projectService.updateProject(id, projectDTO));
     }
 
     /**
@@ -79,8 +177,14 @@ public class ProjectResource {
     @DELETE
     @Path("/{id}")
     @RolesAllowed("ADMIN")
-    public Response delete(@PathParam("id") Long id) {
-        projectService.deleteProject(id);
-        return Response.noContent().build();
+    public Uni<Response> delete(@PathParam("id") Long id) {
+        return blocking.submit(() -> {
+            projectService.deleteProject(id);
+            return Response.noContent().build();
+        });
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 }
@@ -0,0 +1,66 @@
+package com.sebastian.portfolio.presentation.rest;
+
+import com.sebastian.portfolio.infrastructure.export.StaticSnapshotExporter;
+import com.sebastian.portfolio.presentation.http.BlockingDispatcher;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import java.util.Map;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+
+/**
+ * Exportación bajo demanda de la API pública como ficheros estáticos.
+ */
+@Path("/static-export")
+@Produces(MediaType.APPLICATION_JSON)
+@SecurityRequirement(name = "jwt")
+public class StaticExportResource {
+    private final StaticSnapshotExporter exporter;
+    private final BlockingDispatcher blocking;
+
+    public StaticExportResource(StaticSnapshotExporter exporter, BlockingDispatcher blocking) {
+        this.exporter = exporter;
+        this.blocking = blocking;
+    }
+
+    /**
+     * Regenera todos los ficheros y devuelve el manifiesto (ruta -> fichero).
+     * Acceso: Solo Administrador (ADMIN) con JWT.
+     */
+    @POST
+    @RolesAllowed("ADMIN")
+    public Uni<Map<String, String>> export() {
+        return blocking.submit(exporter::exportAll);
+    }
+
+    /**
+     * Revisión del contenido actual ({@code {"revision": "<hash>"}}). Si no
+     * coincide con el hash de {@code /portfolio} en el manifiesto del CDN, la
+     * exportación está atrasada y el frontend usa la API. El ETag es la propia
+     * revisión.
+     * Acceso: Público (PermitAll).
+     */
+    @GET
+    @Path("/revision")
+    @PermitAll
+    public Uni<Response> revision(@Context Request request) {
+        return blocking.submit(exporter::revision).map(revision -> {
+            EntityTag etag = new EntityTag(revision);
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            return (notModified != null ? notModified : Response.ok(Map.of("revision", revision)))
+                    .tag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .build();
+        });
+    }
+}
@@ -1,22 +1,25 @@
 -- Semilla de usuario ADMIN (password: Tian2127*)
--- NOTA: En producción, usar contraseñas hasheadas
+-- NOTA: la contraseña en texto plano se sustituye por su hash bcrypt en el primer login
 INSERT INTO users (username, password, role) VALUES ('admin', 'admin123', 'ADMIN');
 
--- Proyectos de ejemplo detallados
-INSERT INTO projects (title, description, architecture, problem, learning, githubUrl, demoUrl, imageUrl) 
-VALUES ('Vortex Backend', 'Motor de gestión de incidentes con Quarkus', 'Hexagonal', 'Optimizar el seguimiento de tickets', 'Aprendizaje de Quarkus y Mutiny', 'https://github.com/sebastian/vortex', 'https://vortex.demo', 'https://vortex.img');
+-- Proyectos de ejemplo detallados (ids explícitos: SequenceAlignment adelanta la secuencia al arrancar)
+INSERT INTO projects (id, title, description, architecture, problem, learning, githubUrl, demoUrl) 
+VALUES (1, 'Vortex Backend', 'Motor de gestión de incidentes con Quarkus', 'Hexagonal', 'Optimizar el seguimiento de tickets', 'Aprendizaje de Quarkus y Mutiny', 'https://github.com/sebastian/vortex', 'https://vortex.demo');
+
+-- Imágenes para el proyecto 1
+INSERT INTO project_images (project_id, sort_order, image_url) VALUES (1, 0, 'https://vortex.img');
 
 -- Tecnologías para el proyecto 1
-INSERT INTO project_technologies (project_id, technology) VALUES (1, 'Java');
-INSERT INTO project_technologies (project_id, technology) VALUES (1, 'Quarkus');
-INSERT INTO project_technologies (project_id, technology) VALUES (1, 'PostgreSQL');
+INSERT INTO project_technologies (project_id, sort_order, technology) VALUES (1, 0, 'Java');
+INSERT INTO project_technologies (project_id, sort_order, technology) VALUES (1, 1, 'Quarkus');
+INSERT INTO project_technologies (project_id, sort_order, technology) VALUES (1, 2, 'PostgreSQL');
 
 -- Features para el proyecto 1
-INSERT INTO project_features (project_id, feature) VALUES (1, 'Gestión de Incidentes Automatizada');
-INSERT INTO project_features (project_id, feature) VALUES (1, 'Notificaciones en tiempo real');
+INSERT INTO project_features (project_id, sort_order, feature) VALUES (1, 0, 'Gestión de Incidentes Automatizada');
+INSERT INTO project_features (project_id, sort_order, feature) VALUES (1, 1, 'Notificaciones en tiempo real');
 
 -- Herramientas en aprendizaje
-INSERT INTO learning_tools (name, category, status, progress) 
-VALUES ('Quarkus', 'Backend', 'LEARNING', 80);
-INSERT INTO learning_tools (name, category, status, progress) 
-VALUES ('PostgreSQL', 'Database', 'MASTERED', 100);
+INSERT INTO learning_tools (id, name, category, status, progress) 
+VALUES (1, 'Quarkus', 'Backend', 'LEARNING', 80);
+INSERT INTO learning_tools (id, name, category, status, progress) 
+VALUES (2, 'PostgreSQL', 'Database', 'MASTERED', 100);
@@ -0,0 +1,119 @@
+package com.sebastian.portfolio.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO;
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO.Item;
+import com.sebastian.portfolio.application.dto.BulkImportResultDTO.Status;
+import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.domain.model.LearningTool;
+import com.sebastian.portfolio.domain.port.in.LearningToolUseCase;
+import com.sebastian.portfolio.domain.port.out.LearningToolOutputPort;
+import com.sebastian.portfolio.presentation.http.JsonItems;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Contrato por elemento de una importación masiva (POST /learning-tools/bulk)
+ * con lotes de 2: resultados en el orden de entrada, un lote rechazado solo
+ * falla sus propios elementos y un error de sintaxis conserva lo ya escrito.
+ */
+@QuarkusTest
+@TestProfile(BulkImporterTest.SmallChunks.class)
+class BulkImporterTest {
+
+    public static class SmallChunks implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("portfolio.bulk.chunk-size", "2");
+        }
+    }
+
+    @Inject
+    LearningToolUseCase service;
+
+    @Inject
+    LearningToolOutputPort repository;
+
+    @Inject
+    JsonItems jsonItems;
+
+    private String prefix;
+
+    @BeforeEach
+    void prefix() {
+        prefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+    }
+
+    @Test
+    void reportsEachItemInInputOrder() {
+        LearningToolDTO existing = service.createTool(new LearningToolDTO(null, prefix + "old", "Backend", "BASIC", 10));
+
+        BulkImportResultDTO result = importTools(
+                tool(null, "a"),
+                tool(null, ""),
+                tool(null, "b"),
+                // Lote 2: el nombre no cabe en la columna y la BD rechaza el lote entero
+                tool(null, "x".repeat(300)),
+                tool(null, "c"),
+                // Lote 3
+                tool(-1L, "d"),
+                tool(existing.id(), "e"));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), result.items().stream().map(Item::index).toList());
+        assertEquals(List.of(Status.CREATED, Status.FAILED, Status.CREATED, Status.FAILED, Status.FAILED,
+                Status.FAILED, Status.UPDATED), result.items().stream().map(Item::status).toList());
+        assertEquals("name es obligatorio", result.items().get(1).error());
+        assertTrue(result.items().get(3).error().startsWith("Lote rechazado"), result.items().get(3).error());
+        assertEquals(result.items().get(3).error(), result.items().get(4).error());
+        assertEquals(new Item(5, -1L, Status.FAILED, "No existe"), result.items().get(5));
+        assertEquals(new Item(6, existing.id(), Status.UPDATED, null), result.items().get(6));
+        assertEquals(List.of(2, 1, 4), List.of(result.created(), result.updated(), result.failed()));
+        assertEquals(List.of("a", "b", "e"), stored());
+    }
+
+    @Test
+    void syntaxErrorKeepsWhatWasAlreadyRead() {
+        String body = tool(null, "a") + "\n" + tool(null, "b") + "\n" + tool(null, "c") + "\n"
+                + "{\"name\": roto}\n" + tool(null, "d") + "\n";
+
+        BulkImportResultDTO result = service.importTools(jsonItems.read(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), LearningToolDTO.class));
+
+        assertEquals(List.of(Status.CREATED, Status.CREATED, Status.CREATED, Status.FAILED),
+                result.items().stream().map(Item::status).toList());
+        assertTrue(result.items().get(3).error().startsWith("JSON inválido"), result.items().get(3).error());
+        assertEquals(List.of("a", "b", "c"), stored());
+    }
+
+    private BulkImportResultDTO importTools(String... tools) {
+        byte[] body = String.join("\n", tools).getBytes(StandardCharsets.UTF_8);
+        return service.importTools(jsonItems.read(new ByteArrayInputStream(body), LearningToolDTO.class));
+    }
+
+    // Un nombre vacío se deja vacío para que falle la validación.
+    private String tool(Long id, String name) {
+        String fullName = name.isEmpty() ? "" : prefix + name;
+        return (id == null ? "{" : "{\"id\":" + id + ",") + "\"name\":\"" + fullName
+                + "\",\"category\":\"Backend\",\"status\":\"LEARNING\",\"progress\":0}";
+    }
+
+    private List<String> stored() {
+        return repository.findAll().stream()
+                .map(LearningTool::getName)
+                .filter(name -> name.startsWith(prefix))
+                .map(name -> name.substring(prefix.length()))
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sebastian.portfolio.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.sebastian.portfolio.application.dto.LearningToolDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import com.sebastian.portfolio.domain.port.in.LearningToolUseCase;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Escrituras sobre un id inexistente: ni error ni evento de cambio (que
+ * invalidaría cachés y notificaría a /events sin motivo).
+ */
+@QuarkusTest
+class LearningToolServiceTest {
+
+    @Singleton
+    static class Changes {
+        final List<ContentChangedEvent> seen = new CopyOnWriteArrayList<>();
+
+        void on(@Observes ContentChangedEvent event) {
+            seen.add(event);
+        }
+    }
+
+    @Inject
+    LearningToolUseCase service;
+
+    @Inject
+    Changes changes;
+
+    @BeforeEach
+    void clear() {
+        changes.seen.clear();
+    }
+
+    @Test
+    void updatingAMissingToolReturnsNullWithoutEvent() {
+        assertNull(service.updateTool(-1L, new LearningToolDTO(null, "Kafka", "Backend", "LEARNING", 10)));
+        assertEquals(List.of(), changes.seen);
+    }
+
+    @Test
+    void deleteFiresOnlyWhenTheToolExisted() {
+        LearningToolDTO created = service.createTool(new LearningToolDTO(null, "Kafka", "Backend", "LEARNING", 10));
+        changes.seen.clear();
+
+        service.deleteTool(created.id());
+        service.deleteTool(created.id());
+
+        assertEquals(List.of(new ContentChangedEvent(ContentSection.LEARNING_TOOLS, created.id(), null)), changes.seen);
+    }
+}
@@ -0,0 +1,210 @@
+package com.sebastian.portfolio.infrastructure.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sebastian.portfolio.application.dto.ProjectDTO;
+import com.sebastian.portfolio.domain.port.in.ProjectUseCase;
+import com.sun.net.httpserver.HttpServer;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Proxy de imágenes contra un origen HTTP local: redimensionado, caché del
+ * original, redirecciones, límite de píxeles, lista de permitidas y 302 al
+ * original cuando no se puede generar la variante.
+ */
+@QuarkusTest
+class ImageProxyTest {
+    private record Reply(int status, Map<String, String> headers, byte[] body) {
+    }
+
+    private static HttpServer origin;
+    private static final Map<String, Reply> REPLIES = new ConcurrentHashMap<>();
+    private static final List<String> REQUESTED = new CopyOnWriteArrayList<>();
+
+    @Inject
+    ImageProxy imageProxy;
+
+    @Inject
+    ImageCache imageCache;
+
+    @Inject
+    ProjectUseCase projectService;
+
+    @ConfigProperty(name = "quarkus.http.test-port", defaultValue = "8081")
+    int testPort;
+
+    private Long projectId;
+
+    @BeforeAll
+    static void startOrigin() throws IOException {
+        origin = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        origin.createContext("/", exchange -> {
+            REQUESTED.add(exchange.getRequestURI().getPath());
+            Reply reply = REPLIES.getOrDefault(exchange.getRequestURI().getPath(), new Reply(404, Map.of(), new byte[0]));
+            reply.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            exchange.sendResponseHeaders(reply.status(), reply.body().length == 0 ? -1 : reply.body().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(reply.body());
+            }
+        });
+        origin.start();
+    }
+
+    @AfterAll
+    static void stopOrigin() {
+        origin.stop(0);
+    }
+
+    @BeforeEach
+    void clear() {
+        REPLIES.clear();
+        REQUESTED.clear();
+    }
+
+    @AfterEach
+    void unpublish() {
+        if (projectId != null)
+            projectService.deleteProject(projectId);
+        projectId = null;
+    }
+
+    @Test
+    void resizesAndReusesTheCachedOriginal() throws IOException {
+        String path = serve(200, Map.of(), png(800, 600));
+        String hash = publish(path);
+
+        ImageProxy.Variant small = imageProxy.variant(hash, 300).orElseThrow();
+        ImageProxy.Variant medium = imageProxy.variant(hash, 640).orElseThrow();
+
+        assertEquals("image/jpeg", small.contentType());
+        assertEquals(320, ImageIO.read(small.file().toFile()).getWidth());
+        assertEquals(640, ImageIO.read(medium.file().toFile()).getWidth());
+        assertEquals(List.of(path), REQUESTED);
+    }
+
+    @Test
+    void doesNotFollowRedirects() throws IOException {
+        String target = serve(200, Map.of(), png(10, 10));
+        String path = serve(302, Map.of("Location", "http://localhost:" + origin.getAddress().getPort() + target),
+                new byte[0]);
+        String hash = publish(path);
+
+        ImageFetchException e = assertThrows(ImageFetchException.class, () -> imageProxy.variant(hash, 320));
+
+        assertTrue(e.getMessage().contains("redirige"), e.getMessage());
+        assertEquals(List.of(path), REQUESTED);
+    }
+
+    @Test
+    void failedSourceIsRememberedAndTheResourceRedirectsToIt() throws Exception {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes(StandardCharsets.UTF_8);
+        String path = serve(200, Map.of("Content-Type", "image/svg+xml"), svg);
+        String hash = publish(path);
+
+        HttpResponse<Void> first = getImage(hash);
+        HttpResponse<Void> second = getImage(hash);
+
+        for (HttpResponse<Void> response : List.of(first, second)) {
+            assertEquals(302, response.statusCode());
+            assertEquals(url(path), response.headers().firstValue("Location").orElseThrow());
+        }
+        assertEquals(List.of(path), REQUESTED);
+    }
+
+    @Test
+    void rejectsTooManyPixelsBeforeDecoding() {
+        byte[] bomb = pngHeader(50_000, 50_000);
+        String hash = publish(serve(200, Map.of(), bomb));
+
+        ImageFetchException e = assertThrows(ImageFetchException.class, () -> imageProxy.variant(hash, 320));
+
+        assertTrue(e.getMessage().contains("píxeles"), e.getMessage());
+    }
+
+    @Test
+    void unpublishedHashIsNotServedFromCache() throws IOException {
+        String hash = ImageSources.hash(url("/retirada-" + UUID.randomUUID() + ".png"));
+        imageCache.put(hash + "-320.jpg", png(320, 240));
+
+        assertTrue(imageProxy.variant(hash, 320).isEmpty());
+    }
+
+    private HttpResponse<Void> getImage(String hash) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + testPort + "/api/images/" + hash + "?w=320")).build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private String serve(int status, Map<String, String> headers, byte[] body) {
+        String path = "/" + UUID.randomUUID() + ".png";
+        REPLIES.put(path, new Reply(status, headers, body));
+        return path;
+    }
+
+    private String publish(String path) {
+        ProjectDTO created = projectService.createProject(new ProjectDTO(null, "Imágenes", "Descripción",
+                List.of("Java"), "Problema", "Aprendizaje", List.of("Proxy"), "Backend / Java",
+                null, null, List.of(url(path)), "1.0.0"));
+        projectId = created.id();
+        return ImageSources.hash(url(path));
+    }
+
+    private static String url(String path) {
+        return "http://localhost:" + origin.getAddress().getPort() + path;
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    // Firma, IHDR con las dimensiones indicadas e IEND: unos pocos bytes sin datos de imagen.
+    private static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(13).putInt(width).putInt(height)
+                .put((byte) 1).put((byte) 0).put((byte) 0).put((byte) 0).put((byte) 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' });
+        chunk(out, "IHDR", ihdr.array());
+        chunk(out, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    private static void chunk(ByteArrayOutputStream out, String type, byte[] data) {
+        byte[] name = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(name);
+        crc.update(data);
+        out.writeBytes(ByteBuffer.allocate(4).putInt(data.length).array());
+        out.writeBytes(name);
+        out.writeBytes(data);
+        out.writeBytes(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+    }
+}
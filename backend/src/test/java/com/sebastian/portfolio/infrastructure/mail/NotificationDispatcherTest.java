@@ -0,0 +1,130 @@
+package com.sebastian.portfolio.infrastructure.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sebastian.portfolio.infrastructure.persistence.entity.NotificationOutboxEntity;
+import com.sebastian.portfolio.infrastructure.persistence.entity.NotificationOutboxEntity.Status;
+import com.sebastian.portfolio.infrastructure.persistence.repository.PanacheNotificationOutboxRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Entrega del outbox contra {@link ResendStub}: estado final de cada fila,
+ * Idempotency-Key estable entre reintentos y filas atascadas en SENDING.
+ */
+@QuarkusTest
+@QuarkusTestResource(value = ResendStub.class, restrictToAnnotatedClass = true)
+class NotificationDispatcherTest {
+    private static final String PAYLOAD = "{\"to\":[\"admin@example.com\"],\"subject\":\"Hola\"}";
+
+    @Inject
+    NotificationDispatcher dispatcher;
+
+    @Inject
+    PanacheNotificationOutboxRepository outbox;
+
+    @Inject
+    EntityManager entityManager;
+
+    @ConfigProperty(name = "resend.dispatcher.max-attempts")
+    int maxAttempts;
+
+    @BeforeEach
+    void clean() {
+        ResendStub.reset();
+        QuarkusTransaction.requiringNew()
+                .run(() -> entityManager.createQuery("delete from NotificationOutboxEntity").executeUpdate());
+    }
+
+    @Test
+    void deliversWithTheRowIdAsIdempotencyKey() {
+        Long id = enqueue();
+
+        dispatcher.dispatch();
+
+        assertEquals(1, ResendStub.RECEIVED.size());
+        ResendStub.Received request = ResendStub.RECEIVED.get(0);
+        assertEquals("/emails", request.path());
+        assertEquals("outbox-" + id, request.idempotencyKey());
+        assertEquals("Bearer test-key", request.authorization());
+        assertEquals(PAYLOAD, request.body());
+        assertEquals(Status.SENT, row(id).status);
+    }
+
+    @Test
+    void retryReusesTheIdempotencyKey() {
+        ResendStub.respond(503);
+        Long id = enqueue();
+
+        dispatcher.dispatch();
+        NotificationOutboxEntity retried = row(id);
+        assertEquals(Status.PENDING, retried.status);
+        assertEquals(1, retried.attempts);
+
+        makeDue(id);
+        dispatcher.dispatch();
+
+        assertEquals(Status.SENT, row(id).status);
+        assertEquals(List.of("outbox-" + id, "outbox-" + id),
+                ResendStub.RECEIVED.stream().map(ResendStub.Received::idempotencyKey).toList());
+    }
+
+    @Test
+    void clientErrorFailsWithoutRetry() {
+        ResendStub.respond(422);
+        Long id = enqueue();
+
+        dispatcher.dispatch();
+
+        NotificationOutboxEntity failed = row(id);
+        assertEquals(Status.FAILED, failed.status);
+        assertTrue(failed.lastError.startsWith("HTTP 422"));
+    }
+
+    @Test
+    void expiredLeaseAtMaxAttemptsIsFailedInsteadOfReclaimed() {
+        Long id = enqueue();
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createQuery(
+                "update NotificationOutboxEntity set status = ?1, attempts = ?2, nextAttemptAt = ?3 where id = ?4")
+                .setParameter(1, Status.SENDING)
+                .setParameter(2, maxAttempts)
+                .setParameter(3, LocalDateTime.now().minusMinutes(1))
+                .setParameter(4, id)
+                .executeUpdate());
+
+        dispatcher.dispatch();
+
+        assertTrue(ResendStub.RECEIVED.isEmpty());
+        NotificationOutboxEntity failed = row(id);
+        assertEquals(Status.FAILED, failed.status);
+        assertEquals(maxAttempts, failed.attempts);
+    }
+
+    private Long enqueue() {
+        QuarkusTransaction.requiringNew().run(() -> outbox.enqueue(PAYLOAD));
+        return QuarkusTransaction.requiringNew().call(() -> entityManager
+                .createQuery("select max(id) from NotificationOutboxEntity", Long.class)
+                .getSingleResult());
+    }
+
+    private void makeDue(Long id) {
+        QuarkusTransaction.requiringNew().run(() -> entityManager
+                .createQuery("update NotificationOutboxEntity set nextAttemptAt = ?1 where id = ?2")
+                .setParameter(1, LocalDateTime.now().minusSeconds(1))
+                .setParameter(2, id)
+                .executeUpdate());
+    }
+
+    private NotificationOutboxEntity row(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> entityManager.find(NotificationOutboxEntity.class, id));
+    }
+}
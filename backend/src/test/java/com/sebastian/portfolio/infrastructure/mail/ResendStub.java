@@ -0,0 +1,72 @@
+package com.sebastian.portfolio.infrastructure.mail;
+
+import com.sun.net.httpserver.HttpServer;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * API de Resend simulada con el servidor HTTP del JDK. Responde con los
+ * códigos encolados en {@link #respond} (200 si no queda ninguno) y guarda
+ * cada petición recibida.
+ */
+public class ResendStub implements QuarkusTestResourceLifecycleManager {
+
+    /** Petición recibida por el stub. */
+    public record Received(String path, String idempotencyKey, String authorization, String body) {
+    }
+
+    static final List<Received> RECEIVED = new CopyOnWriteArrayList<>();
+    private static final Queue<Integer> STATUSES = new ConcurrentLinkedQueue<>();
+
+    private HttpServer server;
+
+    static void respond(Integer... statuses) {
+        STATUSES.addAll(List.of(statuses));
+    }
+
+    static void reset() {
+        RECEIVED.clear();
+        STATUSES.clear();
+    }
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                RECEIVED.add(new Received(exchange.getRequestURI().getPath(),
+                        exchange.getRequestHeaders().getFirst("Idempotency-Key"),
+                        exchange.getRequestHeaders().getFirst("Authorization"),
+                        new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+            Integer status = STATUSES.poll();
+            byte[] body = "{\"id\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return Map.of("resend.api.url", "http://localhost:" + server.getAddress().getPort(),
+                "resend.api.key", "test-key");
+    }
+
+    @Override
+    public void stop() {
+        if (server != null)
+            server.stop(0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sebastian.portfolio.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sebastian.portfolio.infrastructure.persistence.repository.ProjectFixtures;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Filas creadas antes de {@code sort_order} (todas a 0) se numeran en su orden
+ * de inserción; las ya numeradas no se tocan. La clave primaria
+ * (project_id, sort_order) no existe en una tabla antigua migrada con
+ * {@code update}, así que el test la quita mientras simula esas filas.
+ */
+@QuarkusTest
+class CollectionOrderBackfillTest {
+
+    @Inject
+    ProjectFixtures fixtures;
+
+    @Inject
+    CollectionOrderBackfill backfill;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    void numbersLegacyRowsInInsertionOrder() {
+        List<Long> ids = fixtures.reset(2).stream().map(project -> project.getId()).toList();
+        Long legacy = ids.get(0);
+        execute("alter table project_technologies drop constraint project_technologies_pkey");
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                entityManager.createNativeQuery("delete from project_technologies where project_id = ?1")
+                        .setParameter(1, legacy).executeUpdate();
+                for (String technology : List.of("Java", "Quarkus", "SQL"))
+                    entityManager.createNativeQuery("insert into project_technologies "
+                            + "(project_id, technology, sort_order) values (?1, ?2, 0)")
+                            .setParameter(1, legacy).setParameter(2, technology).executeUpdate();
+            });
+
+            backfill.onStart(null);
+
+            assertEquals(List.of("Java:0", "Quarkus:1", "SQL:2"), technologies(legacy));
+            assertEquals(List.of("Java:0", "Quarkus:1", "SQL:2"), technologies(ids.get(1)));
+        } finally {
+            execute("alter table project_technologies add primary key (project_id, sort_order)");
+        }
+    }
+
+    private void execute(String ddl) {
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(ddl).executeUpdate());
+    }
+
+    private List<String> technologies(Long projectId) {
+        return QuarkusTransaction.requiringNew().call(() -> entityManager.createNativeQuery(
+                "select technology || ':' || sort_order from project_technologies where project_id = ?1 "
+                        + "order by sort_order", String.class)
+                .setParameter(1, projectId)
+                .getResultList());
+    }
+}
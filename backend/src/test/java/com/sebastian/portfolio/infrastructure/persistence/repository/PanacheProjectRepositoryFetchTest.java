@@ -0,0 +1,33 @@
+package com.sebastian.portfolio.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * El listado completo cuesta las mismas sentencias con 1 proyecto que con 50:
+ * las colecciones se cargan con SUBSELECT, no una consulta por proyecto.
+ */
+@QuarkusTest
+class PanacheProjectRepositoryFetchTest {
+
+    @Inject
+    ProjectFixtures fixtures;
+
+    @Inject
+    PanacheProjectRepository repository;
+
+    @Test
+    void findAllStatementCountDoesNotGrowWithProjects() {
+        fixtures.reset(1);
+        long single = fixtures.statements(() -> assertEquals(1, repository.findAll().size()));
+
+        fixtures.reset(50);
+        long many = fixtures.statements(() -> assertEquals(50, repository.findAll().size()));
+
+        assertEquals(4, single, "1 consulta de proyectos + 3 de colecciones");
+        assertEquals(single, many);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sebastian.portfolio.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sebastian.portfolio.domain.model.Project;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Sentencias de {@code update} (lo que ejecuta PUT /projects/{id}) frente a una
+ * lectura del mismo proyecto: la diferencia es exactamente el DML emitido.
+ */
+@QuarkusTest
+class PanacheProjectRepositoryUpdateTest {
+
+    @Inject
+    ProjectFixtures fixtures;
+
+    @Inject
+    PanacheProjectRepository repository;
+
+    private Project stored;
+    private long read;
+
+    @BeforeEach
+    void seed() {
+        stored = fixtures.reset(1).get(0);
+        read = fixtures.statements(() -> repository.findById(stored.getId()));
+    }
+
+    @Test
+    void unchangedUpdateIssuesNoDml() {
+        long statements = fixtures.statements(() -> repository.update(copy(stored)));
+
+        assertEquals(read, statements);
+        assertDml(0, 0, 0);
+    }
+
+    @Test
+    void editingOneElementIssuesOneUpdate() {
+        Project edited = copy(stored);
+        edited.getTechnologies().set(1, "Hibernate");
+
+        long statements = fixtures.statements(() -> repository.update(edited));
+
+        assertEquals(read + 1, statements);
+        assertDml(0, 1, 0);
+        assertEquals(List.of("Java", "Hibernate", "SQL"), reload().getTechnologies());
+    }
+
+    @Test
+    void versionBumpUpdatesOnlyTheProjectRow() {
+        Project bumped = copy(stored);
+        bumped.setVersion("1.1.0");
+
+        long statements = fixtures.statements(() -> repository.update(bumped));
+
+        assertEquals(read + 1, statements);
+        assertDml(1, 0, 0);
+        assertEquals("1.1.0", reload().getVersion());
+    }
+
+    private void assertDml(long entityUpdates, long collectionUpdates, long collectionRecreates) {
+        Statistics statistics = fixtures.statistics();
+        assertEquals(entityUpdates, statistics.getEntityUpdateCount(), "UPDATE de projects");
+        assertEquals(collectionUpdates, statistics.getCollectionUpdateCount(), "colecciones actualizadas");
+        assertEquals(collectionRecreates, statistics.getCollectionRecreateCount(), "colecciones recreadas");
+        assertEquals(0, statistics.getCollectionRemoveCount(), "colecciones borradas");
+    }
+
+    private Project reload() {
+        return QuarkusTransaction.requiringNew().call(() -> repository.findById(stored.getId()).orElseThrow());
+    }
+
+    private static Project copy(Project project) {
+        return new Project(project.getId(), project.getTitle(), project.getDescription(),
+                new ArrayList<>(project.getTechnologies()), project.getProblem(), project.getLearning(),
+                new ArrayList<>(project.getFeatures()), project.getArchitecture(), project.getGithubUrl(),
+                project.getDemoUrl(), new ArrayList<>(project.getImageUrls()), project.getVersion());
+    }
+}
@@ -0,0 +1,59 @@
+package com.sebastian.portfolio.infrastructure.persistence.repository;
+
+import com.sebastian.portfolio.domain.model.Project;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Datos de prueba para los tests de persistencia de proyectos: vacía las
+ * tablas y crea proyectos con sus tres colecciones.
+ */
+@ApplicationScoped
+public class ProjectFixtures {
+    private final EntityManager entityManager;
+    private final SessionFactory sessionFactory;
+    private final PanacheProjectRepository repository;
+
+    public ProjectFixtures(EntityManager entityManager, SessionFactory sessionFactory,
+            PanacheProjectRepository repository) {
+        this.entityManager = entityManager;
+        this.sessionFactory = sessionFactory;
+        this.repository = repository;
+    }
+
+    public List<Project> reset(int count) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (String table : List.of("project_technologies", "project_features", "project_images", "projects"))
+                entityManager.createNativeQuery("delete from " + table).executeUpdate();
+        });
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            projects.add(project(i));
+        return QuarkusTransaction.requiringNew().call(() -> repository.saveAll(projects));
+    }
+
+    public static Project project(int i) {
+        return new Project(null, "Proyecto " + i, "Descripción " + i, List.of("Java", "Quarkus", "SQL"),
+                "Problema", "Aprendizaje", List.of("Búsqueda", "Exportación"), "Backend / Java",
+                "https://github.com/example/" + i, null,
+                List.of("https://img.example.com/" + i + "-a.png", "https://img.example.com/" + i + "-b.png"),
+                "1.0.0");
+    }
+
+    public Statistics statistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    /** Sentencias preparadas por {@code action} en su propia transacción. */
+    public long statements(Runnable action) {
+        Statistics statistics = statistics();
+        statistics.clear();
+        QuarkusTransaction.requiringNew().run(action);
+        return statistics.getPrepareStatementCount();
+    }
+}
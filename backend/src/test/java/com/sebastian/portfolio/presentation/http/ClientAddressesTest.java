@@ -0,0 +1,38 @@
+package com.sebastian.portfolio.presentation.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ClientAddressesTest {
+    private final ClientAddresses addresses = new ClientAddresses(List.of("10.0.0.0/8", "fc00::/7"));
+
+    @Test
+    void ignoresForwardedForFromUntrustedPeer() {
+        assertEquals("203.0.113.7", addresses.resolve("203.0.113.7", List.of("198.51.100.1")));
+    }
+
+    @Test
+    void takesTheHopAddedByTheTrustedProxy() {
+        assertEquals("203.0.113.7",
+                addresses.resolve("10.1.2.3", List.of("198.51.100.1, 192.0.2.9", "203.0.113.7")));
+    }
+
+    @Test
+    void skipsChainedTrustedProxies() {
+        assertEquals("203.0.113.7", addresses.resolve("10.1.2.3", List.of("1.1.1.1, 203.0.113.7:4711, 10.9.9.9")));
+        assertEquals("2001:db8::1", addresses.resolve("fd00::1", List.of("[2001:db8::1]:443")));
+    }
+
+    @Test
+    void fallsBackToPeerWithoutForwardedFor() {
+        assertEquals("10.1.2.3", addresses.resolve("10.1.2.3", List.of()));
+    }
+
+    @Test
+    void groupsByNetworkPrefix() {
+        assertEquals("203.0.113.0/24", ClientAddresses.prefix("203.0.113.7"));
+        assertEquals("2001:db8:1::/48", ClientAddresses.prefix("2001:db8:1:2::5"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sebastian.portfolio.presentation.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sebastian.portfolio.application.dto.ContentChangeDTO;
+import com.sebastian.portfolio.application.event.ContentChangedEvent;
+import com.sebastian.portfolio.application.event.ContentSection;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import java.time.Duration;
+import java.util.List;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.jaxrs.SseImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Un suscriptor que desborda su buffer recibe BULK por sección y su flujo se
+ * cierra aunque el latido siga activo; al reconectar vuelve a recibir cambios.
+ */
+@QuarkusTest
+class EventResourceTest {
+
+    @Inject
+    EventResource eventResource;
+
+    @Inject
+    Event<ContentChangedEvent> events;
+
+    @ConfigProperty(name = "portfolio.events.buffer-size")
+    int bufferSize;
+
+    @Test
+    void overflowClosesTheStreamAndReconnectReceivesChanges() {
+        AssertSubscriber<OutboundSseEvent> slow = eventResource.stream(SseImpl.INSTANCE)
+                .subscribe().withSubscriber(AssertSubscriber.create(0));
+        // merge y concatenating piden por adelantado: hace falta más que el buffer propio
+        for (int i = 0; i < bufferSize + 1000; i++)
+            deleteTool(-1L - i);
+
+        slow.request(Long.MAX_VALUE).awaitCompletion(Duration.ofSeconds(5));
+        List<ContentChangeDTO> changes = slow.getItems().stream()
+                .filter(event -> "change".equals(event.getName()))
+                .map(event -> (ContentChangeDTO) event.getData())
+                .toList();
+        // Lo que ya estaba en buffers se entrega; después, un BULK por sección y fin.
+        List<ContentChangeDTO> resync = changes.subList(changes.size() - ContentSection.values().length, changes.size());
+        assertEquals(List.of(ContentSection.values()), resync.stream().map(ContentChangeDTO::entity).toList());
+        resync.forEach(change -> assertEquals(ContentChangeDTO.Change.BULK, change.change()));
+
+        AssertSubscriber<OutboundSseEvent> reconnected = eventResource.stream(SseImpl.INSTANCE)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        deleteTool(-1000L);
+        reconnected.awaitItems(1);
+        ContentChangeDTO change = (ContentChangeDTO) reconnected.getItems().get(0).getData();
+        assertEquals(-1000L, change.id());
+        assertEquals(ContentChangeDTO.Change.DELETED, change.change());
+        reconnected.cancel();
+    }
+
+    // Sin transacción activa, los observadores AFTER_SUCCESS se notifican en el acto.
+    private void deleteTool(Long id) {
+        events.fire(new ContentChangedEvent(ContentSection.LEARNING_TOOLS, id, null));
+    }
+}